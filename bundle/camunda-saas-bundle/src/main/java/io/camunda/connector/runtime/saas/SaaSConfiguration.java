@@ -19,6 +19,7 @@ package io.camunda.connector.runtime.saas;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.runtime.cloud.GcpSecretManagerSecretProvider;
 import io.camunda.zeebe.spring.client.properties.ZeebeClientConfigurationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -44,13 +45,21 @@ public class SaaSConfiguration {
     this.conf = conf;
   }
 
-  @Bean
-  public SecretProvider getSecretProvider() {
-    return new GcpSecretManagerSecretProvider(
-        conf.getCloud().getClusterId(), secretsProjectId, secretsNamePrefix);
+  @Bean(destroyMethod = "close")
+  public SecretProvider getSecretProvider(MeterRegistry meterRegistry) {
+    var metrics = new SecretRefreshMetrics(meterRegistry);
+    var secretProvider =
+        new GcpSecretManagerSecretProvider(
+            conf.getCloud().getClusterId(), secretsProjectId, secretsNamePrefix, metrics);
+    metrics.bindAge(secretProvider);
+    return secretProvider;
   }
 
-  public SecretProvider getInternalSecretProvider() {
+  /**
+   * Creates a provider for the internal secrets, such as the M2M credentials. It is not managed by
+   * the context, callers close it once they have read the secrets they need.
+   */
+  public GcpSecretManagerSecretProvider getInternalSecretProvider() {
     return new GcpSecretManagerSecretProvider(
         conf.getCloud().getClusterId(), secretsProjectId, secretsInternalNamePrefix);
   }
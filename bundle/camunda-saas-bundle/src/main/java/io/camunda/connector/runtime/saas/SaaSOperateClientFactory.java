@@ -16,7 +16,6 @@
  */
 package io.camunda.connector.runtime.saas;
 
-import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.operate.CamundaOperateClient;
 import io.camunda.operate.auth.SaasAuthentication;
 import io.camunda.operate.exception.OperateException;
@@ -39,18 +38,22 @@ public class SaaSOperateClientFactory {
   public static String SECRET_NAME_CLIENT_ID = "M2MClientId";
   public static String SECRET_NAME_SECRET = "M2MSecret";
 
-  private final SecretProvider internalSecretProvider;
+  private final SaaSConfiguration saaSConfiguration;
 
   public SaaSOperateClientFactory(@Autowired SaaSConfiguration saaSConfiguration) {
-    this.internalSecretProvider = saaSConfiguration.getInternalSecretProvider();
+    this.saaSConfiguration = saaSConfiguration;
   }
 
   @Bean
   @Primary
   public CamundaOperateClient camundaOperateClientBundle(
       OperateClientConfigurationProperties properties) throws OperateException {
-    String operateClientId = internalSecretProvider.getSecret(SECRET_NAME_CLIENT_ID);
-    String operateClientSecret = internalSecretProvider.getSecret(SECRET_NAME_SECRET);
+    String operateClientId;
+    String operateClientSecret;
+    try (var internalSecretProvider = saaSConfiguration.getInternalSecretProvider()) {
+      operateClientId = internalSecretProvider.getSecret(SECRET_NAME_CLIENT_ID);
+      operateClientSecret = internalSecretProvider.getSecret(SECRET_NAME_SECRET);
+    }
     return new CamundaOperateClient.Builder()
         .operateUrl(properties.getOperateUrl())
         .authentication(
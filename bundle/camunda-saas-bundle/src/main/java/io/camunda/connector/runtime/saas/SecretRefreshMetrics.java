@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.saas;
+
+import io.camunda.connector.runtime.cloud.GcpSecretManagerSecretProvider;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Secrets;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+/**
+ * Records the latency of the refreshes of the secrets from the Google Secret Manager, tagged by
+ * outcome, and the age of the secrets served.
+ */
+public class SecretRefreshMetrics implements GcpSecretManagerSecretProvider.Listener {
+
+  private final MeterRegistry meterRegistry;
+  private final Timer succeeded;
+  private final Timer failed;
+
+  public SecretRefreshMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.succeeded = timer(Secrets.OUTCOME_SUCCESS);
+    this.failed = timer(Secrets.OUTCOME_FAILURE);
+  }
+
+  private Timer timer(String outcome) {
+    return Timer.builder(Secrets.METRIC_NAME_SECRET_REFRESH_TIME)
+        .description("Duration of loading the secrets from the secret manager")
+        .tag(Secrets.TAG_OUTCOME, outcome)
+        .register(meterRegistry);
+  }
+
+  /** Registers a gauge of the age of the secrets the provider serves, in seconds. */
+  public void bindAge(GcpSecretManagerSecretProvider secretProvider) {
+    Gauge.builder(
+            Secrets.METRIC_NAME_SECRET_AGE,
+            secretProvider,
+            provider -> {
+              Duration age = provider.getRefreshStatistics().age();
+              return age != null ? age.toMillis() / 1000.0 : Double.NaN;
+            })
+        .description("Time since the secrets were loaded from the secret manager")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void onRefreshed(Duration latency) {
+    succeeded.record(latency);
+  }
+
+  @Override
+  public void onRefreshFailed(Duration latency) {
+    failed.record(latency);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.app;
+
+import static io.camunda.zeebe.process.test.assertions.BpmnAssert.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.process.test.api.ZeebeTestEngine;
+import io.camunda.zeebe.process.test.assertions.BpmnAssert;
+import io.camunda.zeebe.process.test.engine.EngineFactory;
+import io.camunda.zeebe.process.test.filters.RecordStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Starts the native image of the bundle against an in-memory Zeebe engine and runs a job of the
+ * HTTP REST connector. Runs with the {@code native} profile only, which builds the native image.
+ */
+@EnabledIfSystemProperty(named = NativeRuntimeSmokeIT.NATIVE_EXECUTABLE, matches = ".+")
+class NativeRuntimeSmokeIT {
+
+  static final String NATIVE_EXECUTABLE = "native.executable";
+
+  private ZeebeTestEngine engine;
+  private ZeebeClient client;
+  private HttpServer httpServer;
+  private Process runtime;
+
+  @BeforeEach
+  void startRuntime() throws Exception {
+    engine = EngineFactory.create();
+    engine.start();
+    client = engine.createClient();
+    BpmnAssert.initRecordStream(RecordStream.of(engine.getRecordStreamSource()));
+
+    httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    httpServer.createContext(
+        "/ping",
+        exchange -> {
+          var body = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    httpServer.start();
+
+    runtime =
+        new ProcessBuilder(
+                System.getProperty(NATIVE_EXECUTABLE),
+                "--zeebe.client.broker.gateway-address=" + engine.getGatewayAddress(),
+                "--zeebe.client.security.plaintext=true",
+                "--camunda.connector.polling.enabled=false",
+                "--camunda.connector.webhook.enabled=false",
+                "--server.port=0")
+            .inheritIO()
+            .start();
+  }
+
+  @AfterEach
+  void stopRuntime() throws Exception {
+    if (runtime != null) {
+      runtime.destroy();
+      runtime.waitFor(30, TimeUnit.SECONDS);
+    }
+    if (httpServer != null) {
+      httpServer.stop(0);
+    }
+    if (client != null) {
+      client.close();
+    }
+    if (engine != null) {
+      engine.stop();
+    }
+  }
+
+  @Test
+  void shouldCompleteHttpJob() {
+    // given
+    var process =
+        Bpmn.createExecutableProcess("native-smoke-test")
+            .startEvent()
+            .serviceTask(
+                "http",
+                task ->
+                    task.zeebeJobType("io.camunda:http-json:1")
+                        .zeebeInput("=\"GET\"", "method")
+                        .zeebeInput(
+                            "=\"http://localhost:" + httpServer.getAddress().getPort() + "/ping\"",
+                            "url")
+                        .zeebeTaskHeader("resultExpression", "={status: response.body.status}"))
+            .endEvent()
+            .done();
+    client
+        .newDeployResourceCommand()
+        .addProcessModel(process, "native-smoke-test.bpmn")
+        .send()
+        .join();
+
+    // when
+    var instance =
+        client
+            .newCreateInstanceCommand()
+            .bpmnProcessId("native-smoke-test")
+            .latestVersion()
+            .send()
+            .join();
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(60))
+        .untilAsserted(
+            () -> assertThat(instance).isCompleted().hasVariableWithValue("status", "ok"));
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+import io.camunda.zeebe.client.impl.response.ActivatedJobImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Builds the jobs and collaborators shared by the benchmarks. */
+final class BenchmarkJobs {
+
+  static final String RESULT_EXPRESSION =
+      "= {status: response.status, count: count(response.body.items),"
+          + " first: response.body.items[1].name}";
+
+  static final String ERROR_EXPRESSION =
+      "= if response.status >= 400 then bpmnError(\"HTTP_\" + string(response.status),"
+          + " \"Request failed\") else null";
+
+  static final Map<String, String> SECRETS =
+      Map.of(
+          "API_TOKEN", "eyJhbGciOiJIUzI1NiJ9.benchmark-token",
+          "API_KEY", "benchmark-api-key",
+          "OWNER", "benchmark-owner");
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final String DESCRIPTION = "x".repeat(200);
+
+  private BenchmarkJobs() {}
+
+  static SecretProvider secretProvider() {
+    return SECRETS::get;
+  }
+
+  /**
+   * Creates the variables of an {@link EchoConnectorFunction} job serialized to roughly {@code
+   * targetSize} bytes.
+   *
+   * @param targetSize - approximate size of the serialized variables in bytes
+   * @param withSecrets - whether the payload references secrets in both supported syntaxes
+   */
+  static String variables(int targetSize, boolean withSecrets) {
+    var variables = new LinkedHashMap<String, Object>();
+    variables.put("url", "https://example.com/api/v1/orders");
+    variables.put("method", "POST");
+    variables.put(
+        "authentication",
+        Map.of("type", "bearer", "token", withSecrets ? "{{secrets.API_TOKEN}}" : "token"));
+    variables.put("headers", Map.of("X-Api-Key", withSecrets ? "secrets.API_KEY" : "api-key"));
+
+    var items = new ArrayList<Map<String, Object>>();
+    variables.put("body", Map.of("items", items));
+    // one item serializes to ~300 bytes, add items until the target size is reached
+    var size = toJson(variables).length();
+    while (size < targetSize) {
+      var item = new LinkedHashMap<String, Object>();
+      item.put("id", items.size());
+      item.put("name", "item-" + items.size());
+      item.put("owner", withSecrets ? "{{secrets.OWNER}}" : "owner");
+      item.put("description", DESCRIPTION);
+      items.add(item);
+      size += toJson(item).length() + 1;
+    }
+    return toJson(variables);
+  }
+
+  static ActivatedJob job(String variables, boolean resultExpression, boolean errorExpression) {
+    var headers = new HashMap<String, String>();
+    if (resultExpression) {
+      headers.put(Keywords.RESULT_EXPRESSION_KEYWORD, RESULT_EXPRESSION);
+    }
+    if (errorExpression) {
+      headers.put(Keywords.ERROR_EXPRESSION_KEYWORD, ERROR_EXPRESSION);
+    }
+    return new ActivatedJobImpl(
+        new ZeebeObjectMapper(),
+        GatewayOuterClass.ActivatedJob.newBuilder()
+            .setKey(1L)
+            .setType(EchoConnectorFunction.TYPE)
+            .setProcessInstanceKey(2L)
+            .setBpmnProcessId("benchmark")
+            .setElementId("echo")
+            .setElementInstanceKey(3L)
+            .setWorker("benchmark")
+            .setRetries(3)
+            .setTenantId("<default>")
+            .setCustomHeaders(toJson(headers))
+            .setVariables(variables)
+            .build());
+  }
+
+  private static String toJson(Object value) {
+    try {
+      return MAPPER.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/** {@link ZeebeFuture} that is already completed, returned by the stubbed job commands. */
+final class CompletedZeebeFuture<T> extends CompletableFuture<T> implements ZeebeFuture<T> {
+
+  CompletedZeebeFuture(T value) {
+    complete(value);
+  }
+
+  @Override
+  public T join(long timeout, TimeUnit unit) {
+    return join();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import io.camunda.connector.api.annotation.OutboundConnector;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import java.util.Map;
+
+/**
+ * Connector that binds and validates its input and echoes the request body back as the response, so
+ * the result and error expressions see a response of the same size as the job payload.
+ */
+@OutboundConnector(
+    name = "Echo",
+    inputVariables = {"url", "method", "authentication", "headers", "body"},
+    type = EchoConnectorFunction.TYPE)
+public class EchoConnectorFunction implements OutboundConnectorFunction {
+
+  public static final String TYPE = "io.camunda:benchmark-echo:1";
+
+  @Override
+  public Object execute(OutboundConnectorContext context) {
+    var request = context.bindVariables(EchoRequest.class);
+    return Map.of(
+        "status",
+        200,
+        "headers",
+        Map.of("Content-Type", "application/json"),
+        "body",
+        request.body());
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Map;
+
+/** Input of {@link EchoConnectorFunction}, shaped like a typical REST connector request. */
+public record EchoRequest(
+    @NotBlank String url,
+    @NotBlank String method,
+    @Valid @NotNull Authentication authentication,
+    Map<String, String> headers,
+    Body body) {
+
+  public record Authentication(@NotBlank String type, @NotBlank String token) {}
+
+  public record Body(List<Item> items) {}
+
+  public record Item(int id, String name, String owner, String description) {}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
+import io.camunda.connector.runtime.core.outbound.ConnectorJobHandler;
+import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.outbound.jobhandling.SpringConnectorJobHandler;
+import io.camunda.connector.validation.impl.DefaultValidationProvider;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.BackoffSupplier;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.spring.client.jobhandling.DefaultCommandExceptionHandlingStrategy;
+import io.camunda.zeebe.spring.client.metrics.DefaultNoopMetricsRecorder;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end benchmark of a single outbound job: variable binding with secret replacement,
+ * validation, connector invocation, result and error expression evaluation and job completion
+ * against a {@link StubJobClient}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobHandlerBenchmark {
+
+  @Param({"1024", "102400", "1048576", "5242880"})
+  int payloadSize;
+
+  @Param({"true", "false"})
+  boolean secrets;
+
+  @Param({"true", "false"})
+  boolean resultExpression;
+
+  @Param({"true", "false"})
+  boolean errorExpression;
+
+  private JobClient client;
+  private ActivatedJob job;
+  private ConnectorJobHandler connectorJobHandler;
+  private SpringConnectorJobHandler springConnectorJobHandler;
+  private ScheduledExecutorService scheduler;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    client = StubJobClient.create();
+    job =
+        BenchmarkJobs.job(
+            BenchmarkJobs.variables(payloadSize, secrets), resultExpression, errorExpression);
+
+    ObjectMapper objectMapper = ConnectorsObjectMapperSupplier.getCopy();
+    var secretProvider = new SecretProviderAggregator(List.of(BenchmarkJobs.secretProvider()));
+    var validationProvider = new DefaultValidationProvider();
+    var function = new EchoConnectorFunction();
+
+    connectorJobHandler =
+        new ConnectorJobHandler(function, secretProvider, validationProvider, objectMapper);
+
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    springConnectorJobHandler =
+        new SpringConnectorJobHandler(
+            new DefaultNoopMetricsRecorder(),
+            new DefaultCommandExceptionHandlingStrategy(
+                BackoffSupplier.newBackoffBuilder().build(), scheduler),
+            secretProvider,
+            validationProvider,
+            objectMapper,
+            function,
+            new OutboundConnectorConfiguration(
+                "Echo",
+                new String[] {"url", "method", "authentication", "headers", "body"},
+                EchoConnectorFunction.TYPE,
+                EchoConnectorFunction.class));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Benchmark
+  public void connectorJobHandler() {
+    connectorJobHandler.handle(client, job);
+  }
+
+  @Benchmark
+  public void springConnectorJobHandler() throws Exception {
+    springConnectorJobHandler.handle(client, job);
+  }
+}
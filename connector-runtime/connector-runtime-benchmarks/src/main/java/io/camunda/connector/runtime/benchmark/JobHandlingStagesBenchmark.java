@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.connector.runtime.core.ConnectorHelper;
+import io.camunda.connector.runtime.core.error.BpmnError;
+import io.camunda.connector.runtime.core.outbound.JobHandlerContext;
+import io.camunda.connector.runtime.core.secret.SecretUtil;
+import io.camunda.connector.validation.impl.DefaultValidationProvider;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the stages of {@link io.camunda.connector.runtime.core.outbound.ConnectorJobHandler} in
+ * isolation, so regressions in one stage are not hidden by the cost of the others.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobHandlingStagesBenchmark {
+
+  @Param({"1024", "102400", "1048576", "5242880"})
+  int payloadSize;
+
+  @Param({"true", "false"})
+  boolean secrets;
+
+  private String variables;
+  private ActivatedJob job;
+  private Object response;
+  private Map<String, String> headers;
+  private SecretProvider secretProvider;
+  private ValidationProvider validationProvider;
+  private ObjectMapper objectMapper;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    variables = BenchmarkJobs.variables(payloadSize, secrets);
+    job = BenchmarkJobs.job(variables, true, true);
+    headers = job.getCustomHeaders();
+    secretProvider = BenchmarkJobs.secretProvider();
+    validationProvider = new DefaultValidationProvider();
+    objectMapper = ConnectorsObjectMapperSupplier.getCopy();
+    response = new EchoConnectorFunction().execute(newContext());
+  }
+
+  private JobHandlerContext newContext() {
+    return new JobHandlerContext(job, secretProvider, validationProvider, objectMapper);
+  }
+
+  @Benchmark
+  public String replaceSecrets() {
+    return SecretUtil.replaceSecrets(variables, BenchmarkJobs.SECRETS::get);
+  }
+
+  @Benchmark
+  public EchoRequest bindVariables() {
+    // a new context per invocation, the context caches the variables with replaced secrets
+    return newContext().bindVariables(EchoRequest.class);
+  }
+
+  @Benchmark
+  public Map<String, Object> createOutputVariables() {
+    return ConnectorHelper.createOutputVariables(response, null, BenchmarkJobs.RESULT_EXPRESSION);
+  }
+
+  @Benchmark
+  public Optional<BpmnError> examineErrorExpression() {
+    return ConnectorHelper.examineErrorExpression(response, headers);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import io.camunda.connector.runtime.core.secret.SecretUtil;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Secret replacement in documents with a growing number of secret references. The time per
+ * operation grows linearly with the number of references, i.e. the time per reference stays
+ * constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecretReplacementBenchmark {
+
+  @Param({"10", "100", "500", "1000"})
+  int references;
+
+  @Param({"10"})
+  int distinctSecrets;
+
+  private String input;
+  private final Function<String, String> secretReplacer = name -> "value-of-" + name;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var builder = new StringBuilder("{");
+    for (int i = 0; i < references; i++) {
+      var name = "SECRET_" + (i % distinctSecrets);
+      builder
+          .append("\"field")
+          .append(i)
+          .append("\": \"")
+          .append(i % 2 == 0 ? "secrets." + name : "{{secrets." + name + "}}")
+          .append("\", \"plain")
+          .append(i)
+          .append("\": \"some value without placeholders\",");
+    }
+    input = builder.append("\"last\": true}").toString();
+  }
+
+  @Benchmark
+  public String replaceSecrets() {
+    return SecretUtil.replaceSecrets(input, secretReplacer);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmark;
+
+import io.camunda.zeebe.client.api.worker.JobClient;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link JobClient} for benchmarks. Every command step returns a stub of its declared
+ * return type and {@code send()} returns an already completed future, so the measured time is spent
+ * in the handler only and not in the gateway round trip.
+ */
+final class StubJobClient implements InvocationHandler {
+
+  private final Map<Class<?>, Object> stubs = new ConcurrentHashMap<>();
+
+  private StubJobClient() {}
+
+  static JobClient create() {
+    return new StubJobClient().stub(JobClient.class);
+  }
+
+  private <T> T stub(Class<T> type) {
+    return type.cast(
+        stubs.computeIfAbsent(
+            type,
+            t ->
+                Proxy.newProxyInstance(
+                    StubJobClient.class.getClassLoader(), new Class<?>[] {t}, this)));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    return switch (method.getName()) {
+      case "send" -> new CompletedZeebeFuture<>(null);
+      case "equals" -> proxy == args[0];
+      case "hashCode" -> System.identityHashCode(proxy);
+      case "toString" -> "StubJobClient";
+      default -> {
+        if (method.getReturnType().isInterface()) {
+          yield stub(method.getReturnType());
+        }
+        throw new UnsupportedOperationException("Not stubbed: " + method);
+      }
+    };
+  }
+}
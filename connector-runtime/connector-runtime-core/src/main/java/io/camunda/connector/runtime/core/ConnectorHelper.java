@@ -22,6 +22,7 @@ import io.camunda.connector.api.inbound.InboundConnectorExecutable;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.feel.FeelEngineWrapperException;
+import io.camunda.connector.feel.PreparedContext;
 import io.camunda.connector.runtime.core.error.BpmnError;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
@@ -40,7 +41,8 @@ public class ConnectorHelper {
   /**
    * @return a map with output process variables for a given response from an {@link
    *     OutboundConnectorFunction} or an {@link InboundConnectorExecutable}. configured with
-   *     headers from a Zeebe Job or inbound Connector properties.
+   *     headers from a Zeebe Job or inbound Connector properties. The response may be passed as a
+   *     {@link PreparedContext} that is shared with other expressions.
    */
   public static Map<String, Object> createOutputVariables(
       final Object responseContent,
@@ -49,13 +51,17 @@ public class ConnectorHelper {
     final Map<String, Object> outputVariables = new HashMap<>();
 
     if (resultVariableName != null && !resultVariableName.isBlank()) {
-      outputVariables.put(resultVariableName, responseContent);
+      outputVariables.put(
+          resultVariableName,
+          responseContent instanceof PreparedContext preparedContext
+              ? preparedContext.getVariables()
+              : responseContent);
     }
 
     Optional.ofNullable(resultExpression)
         .filter(s -> !s.isBlank())
-        .map(expression -> FEEL_ENGINE_WRAPPER.evaluateToJson(expression, responseContent))
-        .map(json -> parseJsonVarsAsTypeOrThrow(json, Map.class, resultExpression))
+        .map(expression -> FEEL_ENGINE_WRAPPER.evaluateToJava(expression, responseContent))
+        .map(result -> asResultVariables(result, resultExpression))
         .ifPresent(outputVariables::putAll);
 
     return outputVariables;
@@ -66,8 +72,8 @@ public class ConnectorHelper {
     final var errorExpression = jobHeaders.get(Keywords.ERROR_EXPRESSION_KEYWORD);
     return Optional.ofNullable(errorExpression)
         .filter(s -> !s.isBlank())
-        .map(expression -> FEEL_ENGINE_WRAPPER.evaluateToJson(expression, responseContent))
-        .map(json -> parseJsonVarsAsTypeOrThrow(json, BpmnError.class, errorExpression))
+        .map(expression -> FEEL_ENGINE_WRAPPER.evaluateToJava(expression, responseContent))
+        .map(result -> convertVarsAsTypeOrThrow(result, BpmnError.class, errorExpression))
         .filter(BpmnError::hasCode);
   }
 
@@ -85,16 +91,34 @@ public class ConnectorHelper {
     }
   }
 
-  private static <T> T parseJsonVarsAsTypeOrThrow(
-      final String jsonVars, Class<T> type, final String expression) {
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> asResultVariables(
+      final Object result, final String expression) {
+    if (result instanceof Map<?, ?> map) {
+      // keys are always strings after FeelEngineWrapper#evaluateToJava
+      return (Map<String, Object>) map;
+    }
+    throw cannotParse(result, Map.class, expression, null);
+  }
+
+  private static <T> T convertVarsAsTypeOrThrow(
+      final Object result, Class<T> type, final String expression) {
+    try {
+      return OBJECT_MAPPER.convertValue(result, type);
+    } catch (IllegalArgumentException e) {
+      throw cannotParse(result, type, expression, e);
+    }
+  }
+
+  private static FeelEngineWrapperException cannotParse(
+      final Object result, Class<?> type, final String expression, final Exception cause) {
+    String json;
     try {
-      return OBJECT_MAPPER.readValue(jsonVars, type);
+      json = OBJECT_MAPPER.writeValueAsString(result);
     } catch (JsonProcessingException e) {
-      throw new FeelEngineWrapperException(
-          String.format(ERROR_CANNOT_PARSE_VARIABLES, jsonVars, type.getName()),
-          expression,
-          jsonVars,
-          e);
+      json = String.valueOf(result);
     }
+    return new FeelEngineWrapperException(
+        String.format(ERROR_CANNOT_PARSE_VARIABLES, json, type.getName()), expression, json, cause);
   }
 }
@@ -22,6 +22,7 @@ import io.camunda.connector.api.inbound.InboundConnectorExecutable;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.runtime.core.config.InboundConnectorConfiguration;
 import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
+import java.lang.annotation.Annotation;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -30,17 +31,16 @@ import java.util.regex.Pattern;
 
 public final class ConnectorUtil {
 
+  static final String ELEMENT_TEMPLATE_ANNOTATION =
+      "io.camunda.connector.generator.java.annotation.ElementTemplate";
+
   private ConnectorUtil() {}
 
   public static Optional<OutboundConnectorConfiguration> getOutboundConnectorConfiguration(
       Class<? extends OutboundConnectorFunction> cls) {
-    Map<String, String> env = System.getenv();
     var annotation = Optional.ofNullable(cls.getAnnotation(OutboundConnector.class));
     if (annotation.isPresent()) {
-      final var normalizedConnectorName =
-          toConnectorTypeEnvVariable(toNormalizedConnectorName(annotation.get().name()));
-      final var type =
-          Optional.ofNullable(env.get(normalizedConnectorName)).orElse(annotation.get().type());
+      final var type = getConnectorType(annotation.get().name(), annotation.get().type());
       return Optional.of(
           new OutboundConnectorConfiguration(
               annotation.get().name(), annotation.get().inputVariables(), type, cls));
@@ -61,13 +61,9 @@ public final class ConnectorUtil {
 
   public static Optional<InboundConnectorConfiguration> getInboundConnectorConfiguration(
       Class<? extends InboundConnectorExecutable> cls) {
-    Map<String, String> env = System.getenv();
     var annotation = Optional.ofNullable(cls.getAnnotation(InboundConnector.class));
     if (annotation.isPresent()) {
-      final var normalizedConnectorName =
-          toConnectorTypeEnvVariable(toNormalizedConnectorName(annotation.get().name()));
-      final var type =
-          Optional.ofNullable(env.get(normalizedConnectorName)).orElse(annotation.get().type());
+      final var type = getConnectorType(annotation.get().name(), annotation.get().type());
       return Optional.of(new InboundConnectorConfiguration(annotation.get().name(), type, cls));
     }
     return Optional.empty();
@@ -84,6 +80,44 @@ public final class ConnectorUtil {
                         cls)));
   }
 
+  /**
+   * Returns the type a connector registers for, which can be overridden with the {@code
+   * CONNECTOR_<NAME>_TYPE} environment variable.
+   *
+   * @param connectorName the name of the connector
+   * @param defaultType the type declared by the connector
+   * @return the overridden type, or the declared type
+   */
+  public static String getConnectorType(String connectorName, String defaultType) {
+    Map<String, String> env = System.getenv();
+    final var normalizedConnectorName =
+        toConnectorTypeEnvVariable(toNormalizedConnectorName(connectorName));
+    return Optional.ofNullable(env.get(normalizedConnectorName)).orElse(defaultType);
+  }
+
+  /**
+   * Reads the input class of a connector from its element template annotation. The annotation is
+   * looked up by name, as the element template generator is not a dependency of the runtime.
+   *
+   * @param cls the connector class
+   * @return the input class, if the connector declares one
+   */
+  public static Optional<Class<?>> getInputDataClass(Class<?> cls) {
+    for (Annotation annotation : cls.getAnnotations()) {
+      if (ELEMENT_TEMPLATE_ANNOTATION.equals(annotation.annotationType().getName())) {
+        try {
+          if (annotation.annotationType().getMethod("inputDataClass").invoke(annotation)
+              instanceof Class<?> inputDataClass) {
+            return Optional.of(inputDataClass);
+          }
+        } catch (ReflectiveOperationException e) {
+          return Optional.empty();
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
   public static String replaceTokens(
       String original, Pattern pattern, Function<Matcher, String> converter) {
     int lastIndex = 0;
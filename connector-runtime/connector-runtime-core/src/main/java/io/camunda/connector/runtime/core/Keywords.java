@@ -90,6 +90,15 @@ public class Keywords {
    */
   public static final String RETRY_BACKOFF_KEYWORD = "retryBackoff";
 
+  /**
+   * The keyword that identifies the source of `result cache TTL` property of an outbound Connector.
+   * Result cache TTL is an ISO8601 duration for which the result of the Connector is reused for
+   * jobs of the same type and tenant with identical variables.
+   *
+   * <p>This value only exists for outbound Connectors and comes from the job headers.
+   */
+  public static final String RESULT_CACHE_TTL_KEYWORD = "resultCacheTtl";
+
   public static final Set<String> ALL_KEYWORDS =
       Set.of(
           RESULT_VARIABLE_KEYWORD,
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.discovery;
+
+import static io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor.FIELD_SEPARATOR;
+import static io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor.INBOUND;
+import static io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor.INDEX_RESOURCE;
+import static io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor.OUTBOUND;
+import static io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor.VARIABLE_SEPARATOR;
+
+import io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor;
+import io.camunda.connector.api.inbound.InboundConnectorExecutable;
+import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.runtime.core.ConnectorUtil;
+import io.camunda.connector.runtime.core.config.InboundConnectorConfiguration;
+import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connector meta-data read from the indexes written by the {@link ConnectorIndexProcessor} at build
+ * time. Looking up a connector in the index avoids reflecting over its annotations on startup.
+ */
+public final class ConnectorIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectorIndex.class);
+
+  private final Map<String, String[]> entries;
+
+  private ConnectorIndex(Map<String, String[]> entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Reads all connector indexes visible to the context class loader.
+   *
+   * @return the merged index, empty if no index is present
+   */
+  public static ConnectorIndex load() {
+    var classLoader = Thread.currentThread().getContextClassLoader();
+    return load(classLoader != null ? classLoader : ConnectorIndex.class.getClassLoader());
+  }
+
+  public static ConnectorIndex load(ClassLoader classLoader) {
+    var entries = new HashMap<String, String[]>();
+    try {
+      var resources = classLoader.getResources(INDEX_RESOURCE);
+      while (resources.hasMoreElements()) {
+        read(resources.nextElement(), entries);
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to read connector index, falling back to annotation scanning", e);
+      return new ConnectorIndex(Map.of());
+    }
+    return new ConnectorIndex(entries);
+  }
+
+  private static void read(URL resource, Map<String, String[]> entries) throws IOException {
+    try (var reader =
+        new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        var fields = line.split(FIELD_SEPARATOR, -1);
+        if ((OUTBOUND.equals(fields[0]) && fields.length == 5)
+            || (INBOUND.equals(fields[0]) && fields.length == 4)) {
+          entries.put(fields[0] + FIELD_SEPARATOR + fields[1], fields);
+        } else {
+          LOG.debug("Ignoring malformed line in connector index {}: {}", resource, line);
+        }
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /**
+   * @param cls the connector function
+   * @return the configuration of the function, if it is contained in the index
+   */
+  public Optional<OutboundConnectorConfiguration> getOutboundConfiguration(
+      Class<? extends OutboundConnectorFunction> cls) {
+    return Optional.ofNullable(entries.get(OUTBOUND + FIELD_SEPARATOR + cls.getName()))
+        .map(
+            fields ->
+                new OutboundConnectorConfiguration(
+                    fields[3],
+                    fields[4].isEmpty() ? new String[0] : fields[4].split(VARIABLE_SEPARATOR),
+                    ConnectorUtil.getConnectorType(fields[3], fields[2]),
+                    cls));
+  }
+
+  /**
+   * @param cls the connector executable
+   * @return the configuration of the executable, if it is contained in the index
+   */
+  public Optional<InboundConnectorConfiguration> getInboundConfiguration(
+      Class<? extends InboundConnectorExecutable> cls) {
+    return Optional.ofNullable(entries.get(INBOUND + FIELD_SEPARATOR + cls.getName()))
+        .map(
+            fields ->
+                new InboundConnectorConfiguration(
+                    fields[3], ConnectorUtil.getConnectorType(fields[3], fields[2]), cls));
+  }
+}
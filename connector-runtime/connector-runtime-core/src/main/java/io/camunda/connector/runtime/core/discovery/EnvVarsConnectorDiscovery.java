@@ -75,14 +75,16 @@ public class EnvVarsConnectorDiscovery {
   }
 
   public static List<OutboundConnectorConfiguration> discoverOutbound() {
+    var index = ConnectorIndex.load();
     return matchEnvVars(OUTBOUND_CONNECTOR_FUNCTION_PATTERN)
-        .map(EnvVarsConnectorDiscovery::loadOutboundConfiguration)
+        .map(name -> loadOutboundConfiguration(name, index))
         .collect(Collectors.toList());
   }
 
   public static List<InboundConnectorConfiguration> discoverInbound() {
+    var index = ConnectorIndex.load();
     return matchEnvVars(INBOUND_CONNECTOR_EXECUTABLE_PATTERN)
-        .map(EnvVarsConnectorDiscovery::loadInboundConfiguration)
+        .map(name -> loadInboundConfiguration(name, index))
         .collect(Collectors.toList());
   }
 
@@ -95,7 +97,8 @@ public class EnvVarsConnectorDiscovery {
   }
 
   @SuppressWarnings("unchecked")
-  private static OutboundConnectorConfiguration loadOutboundConfiguration(String name) {
+  private static OutboundConnectorConfiguration loadOutboundConfiguration(
+      String name, ConnectorIndex index) {
 
     var functionFqdn =
         getEnv(name, "FUNCTION")
@@ -103,7 +106,10 @@ public class EnvVarsConnectorDiscovery {
 
     try {
       var cls = (Class<? extends OutboundConnectorFunction>) Class.forName(functionFqdn);
-      var annotationConfig = ConnectorUtil.getOutboundConnectorConfiguration(cls);
+      var annotationConfig =
+          index
+              .getOutboundConfiguration(cls)
+              .or(() -> ConnectorUtil.getOutboundConnectorConfiguration(cls));
 
       return new OutboundConnectorConfiguration(
           name,
@@ -122,7 +128,8 @@ public class EnvVarsConnectorDiscovery {
   }
 
   @SuppressWarnings("unchecked")
-  private static InboundConnectorConfiguration loadInboundConfiguration(String name) {
+  private static InboundConnectorConfiguration loadInboundConfiguration(
+      String name, ConnectorIndex index) {
 
     var executableFqdn =
         getEnv(name, "EXECUTABLE")
@@ -130,7 +137,10 @@ public class EnvVarsConnectorDiscovery {
 
     try {
       var cls = (Class<? extends InboundConnectorExecutable>) Class.forName(executableFqdn);
-      var annotationConfig = ConnectorUtil.getInboundConnectorConfiguration(cls);
+      var annotationConfig =
+          index
+              .getInboundConfiguration(cls)
+              .or(() -> ConnectorUtil.getInboundConnectorConfiguration(cls));
 
       return new InboundConnectorConfiguration(
           name,
@@ -29,21 +29,27 @@ import java.util.stream.Collectors;
 public class SPIConnectorDiscovery {
 
   public static List<OutboundConnectorConfiguration> discoverOutbound() {
+    var index = ConnectorIndex.load();
     return ServiceLoader.load(OutboundConnectorFunction.class).stream()
         .map(
             functionProvider -> {
               Class<? extends OutboundConnectorFunction> cls = functionProvider.type();
-              return ConnectorUtil.getRequiredOutboundConnectorConfiguration(cls);
+              return index
+                  .getOutboundConfiguration(cls)
+                  .orElseGet(() -> ConnectorUtil.getRequiredOutboundConnectorConfiguration(cls));
             })
         .collect(Collectors.toList());
   }
 
   public static List<InboundConnectorConfiguration> discoverInbound() {
+    var index = ConnectorIndex.load();
     return ServiceLoader.load(InboundConnectorExecutable.class).stream()
         .map(
             functionProvider -> {
               Class<? extends InboundConnectorExecutable> cls = functionProvider.type();
-              return ConnectorUtil.getRequiredInboundConnectorConfiguration(cls);
+              return index
+                  .getInboundConfiguration(cls)
+                  .orElseGet(() -> ConnectorUtil.getRequiredInboundConnectorConfiguration(cls));
             })
         .collect(Collectors.toList());
   }
@@ -17,6 +17,7 @@
 package io.camunda.connector.runtime.core.inbound;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.api.inbound.InboundConnectorDefinition;
@@ -27,6 +28,7 @@ import io.camunda.connector.runtime.core.inbound.correlation.BoundaryEventCorrel
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -85,6 +87,11 @@ public class InboundIntermediateConnectorContextImpl
     inboundContext.correlate(variables);
   }
 
+  @Override
+  public CompletionStage<CorrelationResult> correlateAsync(final Object variables) {
+    return inboundContext.correlateAsync(variables);
+  }
+
   @Override
   public void cancel(final Throwable exception) {
     inboundContext.cancel(exception);
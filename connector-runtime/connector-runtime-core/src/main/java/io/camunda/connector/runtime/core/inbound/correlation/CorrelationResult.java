@@ -25,20 +25,23 @@ import java.util.Optional;
  * message name in case of an IntermediateEvent target, or process definition key in case of a
  * StartEvent target.
  */
-public interface CorrelationResult<T> {
+public interface CorrelationResult<T> extends io.camunda.connector.api.inbound.CorrelationResult {
 
   /** Whether connector was activated */
+  @Override
   boolean isActivated();
 
   /**
    * Additional information related to Inbound Connector correlation result. Only present when
    * {@link #isActivated()} returns true.
    */
+  @Override
   Optional<T> getResponseData();
 
   /**
    * Additional information about correlation failure reasons. Only present when {@link
    * #isActivated()} returns false.
    */
+  @Override
   Optional<CorrelationErrorData> getErrorData();
 }
@@ -20,6 +20,7 @@ import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.feel.FeelEngineWrapperException;
+import io.camunda.connector.feel.PreparedContext;
 import io.camunda.connector.runtime.core.ConnectorHelper;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
 import io.camunda.connector.runtime.core.inbound.correlation.CorrelationErrorData.CorrelationErrorReason;
@@ -30,11 +31,14 @@ import io.camunda.connector.runtime.core.inbound.result.MessageStartCorrelationR
 import io.camunda.connector.runtime.core.inbound.result.ProcessInstance;
 import io.camunda.connector.runtime.core.inbound.result.StartEventCorrelationResult;
 import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.ClientStatusException;
-import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
-import io.camunda.zeebe.client.api.response.PublishMessageResponse;
+import io.grpc.StatusRuntimeException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,189 +57,236 @@ public class InboundCorrelationHandler {
 
   public CorrelationResult<?> correlate(
       InboundConnectorDefinitionImpl definition, Object variables) {
-    return correlate(definition, variables, null);
+    return join(correlateAsync(definition, variables));
   }
 
   public CorrelationResult<?> correlate(
       InboundConnectorDefinitionImpl definition, Object variables, String messageId) {
+    return join(correlateAsync(definition, variables, messageId));
+  }
+
+  /**
+   * Correlates the event without waiting for Zeebe. Expressions are evaluated on the calling
+   * thread, the returned stage completes once Zeebe responded.
+   *
+   * @return a stage that completes with the result of the correlation, or exceptionally with a
+   *     {@link ConnectorInputException} or {@link ConnectorException}
+   */
+  public CompletionStage<CorrelationResult<?>> correlateAsync(
+      InboundConnectorDefinitionImpl definition, Object variables) {
+    return correlateAsync(definition, variables, null);
+  }
+
+  public CompletionStage<CorrelationResult<?>> correlateAsync(
+      InboundConnectorDefinitionImpl definition, Object variables, String messageId) {
 
     var correlationPoint = definition.correlationPoint();
+    try {
+      // the variables are converted once for the activation condition, correlation key, message
+      // ID and result expressions
+      var context = feelEngine.prepareContext(variables);
 
-    if (correlationPoint instanceof StartEventCorrelationPoint startCorPoint) {
-      return triggerStartEvent(definition, startCorPoint, variables);
-    }
-    if (correlationPoint instanceof MessageCorrelationPoint msgCorPoint) {
-      return triggerMessage(
-          definition,
-          msgCorPoint.messageName(),
-          msgCorPoint.correlationKeyExpression(),
-          variables,
-          resolveMessageId(msgCorPoint.messageIdExpression(), messageId, variables));
-    }
-    if (correlationPoint instanceof MessageStartEventCorrelationPoint msgStartCorPoint) {
-      return triggerMessageStartEvent(definition, msgStartCorPoint, variables);
-    }
-    if (correlationPoint instanceof BoundaryEventCorrelationPoint boundaryEventCorrelationPoint) {
-      return triggerMessage(
-          definition,
-          boundaryEventCorrelationPoint.messageName(),
-          boundaryEventCorrelationPoint.correlationKeyExpression(),
-          variables,
-          resolveMessageId(
-              boundaryEventCorrelationPoint.messageIdExpression(), messageId, variables));
+      if (correlationPoint instanceof StartEventCorrelationPoint startCorPoint) {
+        return widen(triggerStartEvent(definition, startCorPoint, variables, context));
+      }
+      if (correlationPoint instanceof MessageCorrelationPoint msgCorPoint) {
+        return widen(
+            triggerMessage(
+                definition,
+                msgCorPoint.messageName(),
+                msgCorPoint.correlationKeyExpression(),
+                variables,
+                context,
+                resolveMessageId(msgCorPoint.messageIdExpression(), messageId, context)));
+      }
+      if (correlationPoint instanceof MessageStartEventCorrelationPoint msgStartCorPoint) {
+        return widen(triggerMessageStartEvent(definition, msgStartCorPoint, variables, context));
+      }
+      if (correlationPoint instanceof BoundaryEventCorrelationPoint boundaryEventCorrelationPoint) {
+        return widen(
+            triggerMessage(
+                definition,
+                boundaryEventCorrelationPoint.messageName(),
+                boundaryEventCorrelationPoint.correlationKeyExpression(),
+                variables,
+                context,
+                resolveMessageId(
+                    boundaryEventCorrelationPoint.messageIdExpression(), messageId, context)));
+      }
+      throw new ConnectorException(
+          "Process correlation point "
+              + correlationPoint.getClass()
+              + " is not supported by Runtime");
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
     }
-    throw new ConnectorException(
-        "Process correlation point "
-            + correlationPoint.getClass()
-            + " is not supported by Runtime");
   }
 
-  protected CorrelationResult<ProcessInstance> triggerStartEvent(
+  /**
+   * Starts a process instance for the event. The {@code variables} are the event as received, the
+   * {@code context} holds the same variables prepared once for the FEEL expressions.
+   */
+  protected CompletionStage<CorrelationResult<ProcessInstance>> triggerStartEvent(
       InboundConnectorDefinitionImpl definition,
       StartEventCorrelationPoint correlationPoint,
-      Object variables) {
+      Object variables,
+      PreparedContext context) {
 
-    if (!isActivationConditionMet(definition, variables)) {
+    if (!isActivationConditionMet(definition, context)) {
       LOG.debug("Activation condition didn't match: {}", correlationPoint);
-      return new StartEventCorrelationResult(
-          correlationPoint.processDefinitionKey(),
-          new CorrelationErrorData(CorrelationErrorReason.ACTIVATION_CONDITION_NOT_MET));
+      return CompletableFuture.completedFuture(
+          new StartEventCorrelationResult(
+              correlationPoint.processDefinitionKey(),
+              new CorrelationErrorData(CorrelationErrorReason.ACTIVATION_CONDITION_NOT_MET)));
     }
-    Object extractedVariables = extractVariables(variables, definition);
+    Object extractedVariables = extractVariables(variables, context, definition);
 
+    var errorMessage = "Failed to start process instance via StartEvent: " + correlationPoint;
     try {
-      ProcessInstanceEvent result =
-          zeebeClient
-              .newCreateInstanceCommand()
-              .bpmnProcessId(correlationPoint.bpmnProcessId())
-              .version(correlationPoint.version())
-              .tenantId(definition.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
-
-      LOG.info("Created a process instance with key" + result.getProcessInstanceKey());
-      return new StartEventCorrelationResult(
-          result.getProcessDefinitionKey(),
-          new ProcessInstance(
-              result.getProcessInstanceKey(), correlationPoint.bpmnProcessId(),
-              correlationPoint.processDefinitionKey(), correlationPoint.version()));
-
+      return zeebeClient
+          .newCreateInstanceCommand()
+          .bpmnProcessId(correlationPoint.bpmnProcessId())
+          .version(correlationPoint.version())
+          .tenantId(definition.tenantId())
+          .variables(extractedVariables)
+          .send()
+          .handle(
+              (result, error) -> {
+                if (error != null) {
+                  throw new ConnectorException(errorMessage, unwrap(error));
+                }
+                LOG.info("Created a process instance with key" + result.getProcessInstanceKey());
+                return new StartEventCorrelationResult(
+                    result.getProcessDefinitionKey(),
+                    new ProcessInstance(
+                        result.getProcessInstanceKey(), correlationPoint.bpmnProcessId(),
+                        correlationPoint.processDefinitionKey(), correlationPoint.version()));
+              });
     } catch (Exception e) {
-      throw new ConnectorException(
-          "Failed to start process instance via StartEvent: " + correlationPoint, e);
+      return CompletableFuture.failedFuture(new ConnectorException(errorMessage, e));
     }
   }
 
-  protected CorrelationResult<CorrelatedMessageStart> triggerMessageStartEvent(
+  protected CompletionStage<CorrelationResult<CorrelatedMessageStart>> triggerMessageStartEvent(
       InboundConnectorDefinitionImpl definition,
       MessageStartEventCorrelationPoint correlationPoint,
-      Object variables) {
+      Object variables,
+      PreparedContext context) {
 
-    if (!isActivationConditionMet(definition, variables)) {
+    if (!isActivationConditionMet(definition, context)) {
       LOG.debug("Activation condition didn't match: {}", correlationPoint);
-      return new MessageStartCorrelationResult(
-          correlationPoint.messageName(),
-          new CorrelationErrorData(CorrelationErrorReason.ACTIVATION_CONDITION_NOT_MET));
+      return CompletableFuture.completedFuture(
+          new MessageStartCorrelationResult(
+              correlationPoint.messageName(),
+              new CorrelationErrorData(CorrelationErrorReason.ACTIVATION_CONDITION_NOT_MET)));
     }
 
-    String messageId = extractMessageId(correlationPoint.messageIdExpression(), variables);
+    String messageId = extractMessageId(correlationPoint.messageIdExpression(), context);
     if (correlationPoint.messageIdExpression() != null
         && !correlationPoint.messageIdExpression().isBlank()
         && messageId == null) {
       LOG.debug(
           "Wasn't able to obtain idempotency key for expression {}.",
           correlationPoint.messageIdExpression());
-      return new MessageStartCorrelationResult(
-          correlationPoint.messageName(),
-          new CorrelationErrorData(CorrelationErrorReason.FAULT_IDEMPOTENCY_KEY));
+      return CompletableFuture.completedFuture(
+          new MessageStartCorrelationResult(
+              correlationPoint.messageName(),
+              new CorrelationErrorData(CorrelationErrorReason.FAULT_IDEMPOTENCY_KEY)));
     }
 
-    Object extractedVariables = extractVariables(variables, definition);
+    Object extractedVariables = extractVariables(variables, context, definition);
 
+    var errorMessage = "Failed to publish process message for subscription: " + correlationPoint;
     try {
       var correlationKey =
-          extractCorrelationKey(correlationPoint.correlationKeyExpression(), variables);
-      PublishMessageResponse result =
-          zeebeClient
-              .newPublishMessageCommand()
-              .messageName(correlationPoint.messageName())
-              // correlation key must be empty to start a new process, see:
-              // https://docs.camunda.io/docs/components/modeler/bpmn/message-events/#message-start-events
-              .correlationKey(correlationKey.orElse(""))
-              .messageId(messageId)
-              .tenantId(definition.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
-
-      LOG.info("Published message with key: " + result.getMessageKey());
-
-      return new MessageStartCorrelationResult(
-          correlationPoint.messageName(),
-          new CorrelatedMessageStart(
-              result.getMessageKey(),
-              messageId,
-              correlationPoint.bpmnProcessId(),
-              correlationPoint.processDefinitionKey(),
-              correlationPoint.version()));
-
-    } catch (ClientStatusException e1) {
-      // gracefully handle zeebe rejections, such as idempotency key rejection
-      LOG.info("Failed to publish message: ", e1);
-      return new MessageStartCorrelationResult(
-          correlationPoint.messageName(),
-          new CorrelationErrorData(
-              CorrelationErrorReason.FAULT_ZEEBE_CLIENT_STATUS, e1.getMessage()));
+          extractCorrelationKey(correlationPoint.correlationKeyExpression(), context);
+      return zeebeClient
+          .newPublishMessageCommand()
+          .messageName(correlationPoint.messageName())
+          // correlation key must be empty to start a new process, see:
+          // https://docs.camunda.io/docs/components/modeler/bpmn/message-events/#message-start-events
+          .correlationKey(correlationKey.orElse(""))
+          .messageId(messageId)
+          .tenantId(definition.tenantId())
+          .variables(extractedVariables)
+          .send()
+          .handle(
+              (result, error) -> {
+                if (error != null) {
+                  var cause = unwrap(error);
+                  if (cause instanceof ClientStatusException e1) {
+                    // gracefully handle zeebe rejections, such as idempotency key rejection
+                    LOG.info("Failed to publish message: ", e1);
+                    return new MessageStartCorrelationResult(
+                        correlationPoint.messageName(),
+                        new CorrelationErrorData(
+                            CorrelationErrorReason.FAULT_ZEEBE_CLIENT_STATUS, e1.getMessage()));
+                  }
+                  throw new ConnectorException(errorMessage, cause);
+                }
+                LOG.info("Published message with key: " + result.getMessageKey());
+                return new MessageStartCorrelationResult(
+                    correlationPoint.messageName(),
+                    new CorrelatedMessageStart(
+                        result.getMessageKey(),
+                        messageId,
+                        correlationPoint.bpmnProcessId(),
+                        correlationPoint.processDefinitionKey(),
+                        correlationPoint.version()));
+              });
     } catch (Exception e2) {
-      throw new ConnectorException(
-          "Failed to publish process message for subscription: " + correlationPoint, e2);
+      return CompletableFuture.failedFuture(new ConnectorException(errorMessage, e2));
     }
   }
 
-  protected CorrelationResult<CorrelatedMessage> triggerMessage(
+  protected CompletionStage<CorrelationResult<CorrelatedMessage>> triggerMessage(
       InboundConnectorDefinitionImpl definition,
       String messageName,
       String correlationKeyExpression,
       Object variables,
+      PreparedContext context,
       String messageId) {
-    if (!isActivationConditionMet(definition, variables)) {
+    if (!isActivationConditionMet(definition, context)) {
       LOG.debug("Activation condition didn't match: {}", definition.correlationPoint());
-      return new MessageCorrelationResult(
-          messageName,
-          new CorrelationErrorData(CorrelationErrorReason.ACTIVATION_CONDITION_NOT_MET));
+      return CompletableFuture.completedFuture(
+          new MessageCorrelationResult(
+              messageName,
+              new CorrelationErrorData(CorrelationErrorReason.ACTIVATION_CONDITION_NOT_MET)));
     }
     String correlationKey =
-        extractCorrelationKey(correlationKeyExpression, variables)
+        extractCorrelationKey(correlationKeyExpression, context)
             .orElseThrow(
                 () ->
                     new ConnectorException(
                         "Correlation key not resolved: " + correlationKeyExpression));
 
-    Object extractedVariables = extractVariables(variables, definition);
+    Object extractedVariables = extractVariables(variables, context, definition);
+    var errorMessage =
+        "Failed to publish process message for subscription: " + definition.correlationPoint();
     try {
-      PublishMessageResponse response =
-          zeebeClient
-              .newPublishMessageCommand()
-              .messageName(messageName)
-              .correlationKey(correlationKey)
-              .messageId(messageId)
-              .tenantId(definition.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
-
-      LOG.info("Published message with key: " + response.getMessageKey());
-      return new MessageCorrelationResult(messageName, response.getMessageKey());
+      return zeebeClient
+          .newPublishMessageCommand()
+          .messageName(messageName)
+          .correlationKey(correlationKey)
+          .messageId(messageId)
+          .tenantId(definition.tenantId())
+          .variables(extractedVariables)
+          .send()
+          .handle(
+              (response, error) -> {
+                if (error != null) {
+                  throw new ConnectorException(errorMessage, unwrap(error));
+                }
+                LOG.info("Published message with key: " + response.getMessageKey());
+                return new MessageCorrelationResult(messageName, response.getMessageKey());
+              });
     } catch (Exception e) {
-      throw new ConnectorException(
-          "Failed to publish process message for subscription: " + definition.correlationPoint(),
-          e);
+      return CompletableFuture.failedFuture(new ConnectorException(errorMessage, e));
     }
   }
 
   protected boolean isActivationConditionMet(
-      InboundConnectorDefinitionImpl definition, Object context) {
+      InboundConnectorDefinitionImpl definition, PreparedContext context) {
 
     var maybeCondition = definition.activationCondition();
     if (maybeCondition == null || maybeCondition.isBlank()) {
@@ -251,7 +302,7 @@ public class InboundCorrelationHandler {
   }
 
   protected Optional<String> extractCorrelationKey(
-      String correlationKeyExpression, Object context) {
+      String correlationKeyExpression, PreparedContext context) {
     Optional<String> correlationKey;
     if (correlationKeyExpression != null && !correlationKeyExpression.isBlank()) {
       try {
@@ -267,7 +318,7 @@ public class InboundCorrelationHandler {
     return correlationKey;
   }
 
-  protected String extractMessageId(String messageIdExpression, Object context) {
+  protected String extractMessageId(String messageIdExpression, PreparedContext context) {
     if (messageIdExpression == null || messageIdExpression.isBlank()) {
       return "";
     }
@@ -278,13 +329,18 @@ public class InboundCorrelationHandler {
     }
   }
 
+  /**
+   * Returns the process variables for the event: the {@code rawVariables} as result variable, and
+   * the result expression evaluated against the prepared {@code context} of the same variables.
+   */
   protected Object extractVariables(
-      Object rawVariables, InboundConnectorDefinitionImpl definition) {
+      Object rawVariables, PreparedContext context, InboundConnectorDefinitionImpl definition) {
     return ConnectorHelper.createOutputVariables(
-        rawVariables, definition.resultVariable(), definition.resultExpression());
+        context, definition.resultVariable(), definition.resultExpression());
   }
 
-  private String resolveMessageId(String messageIdExpression, String messageId, Object context) {
+  private String resolveMessageId(
+      String messageIdExpression, String messageId, PreparedContext context) {
     if (messageId == null) {
       if (messageIdExpression != null) {
         return extractMessageId(messageIdExpression, context);
@@ -294,4 +350,36 @@ public class InboundCorrelationHandler {
     }
     return messageId;
   }
+
+  /**
+   * Returns the cause of a failed Zeebe command as {@link ZeebeFuture#join()} would throw it, i.e.
+   * gRPC errors as {@link ClientStatusException}.
+   */
+  private static Throwable unwrap(Throwable error) {
+    var cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause instanceof StatusRuntimeException statusException) {
+      return new ClientStatusException(statusException.getStatus(), statusException);
+    }
+    return cause;
+  }
+
+  // the stages are only read, so widening the result type is safe
+  @SuppressWarnings("unchecked")
+  private static CompletionStage<CorrelationResult<?>> widen(
+      CompletionStage<? extends CorrelationResult<?>> stage) {
+    return (CompletionStage<CorrelationResult<?>>) stage;
+  }
+
+  /** Waits for the correlation, rethrowing the exception it failed with. */
+  private static CorrelationResult<?> join(CompletionStage<CorrelationResult<?>> stage) {
+    try {
+      return stage.toCompletableFuture().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
 }
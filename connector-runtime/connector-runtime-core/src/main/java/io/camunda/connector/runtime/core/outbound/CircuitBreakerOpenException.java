@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import io.camunda.connector.api.error.ConnectorException;
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * Thrown instead of calling a connector while the {@link OutboundCircuitBreaker} of its type and
+ * target is open. Jobs failed with this exception keep their retries and are retried after {@link
+ * #getRetryBackoff()}.
+ */
+public class CircuitBreakerOpenException extends ConnectorException {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  public static final String ERROR_CODE = "CIRCUIT_BREAKER_OPEN";
+
+  private final Duration retryBackoff;
+
+  public CircuitBreakerOpenException(String type, String target, Duration retryBackoff) {
+    super(
+        ERROR_CODE,
+        String.format(
+            "Circuit breaker for connector '%s'%s is open, retrying in %s",
+            type, target.isEmpty() ? "" : " and target '" + target + "'", retryBackoff));
+    this.retryBackoff = retryBackoff;
+  }
+
+  public Duration getRetryBackoff() {
+    return retryBackoff;
+  }
+}
@@ -19,6 +19,7 @@ package io.camunda.connector.runtime.core.outbound;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.outbound.AsyncOutboundConnectorFunction;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
@@ -27,6 +28,7 @@ import io.camunda.connector.runtime.core.Keywords;
 import io.camunda.connector.runtime.core.error.BpmnError;
 import io.camunda.connector.runtime.core.outbound.ConnectorResult.ErrorResult;
 import io.camunda.connector.runtime.core.outbound.ConnectorResult.SuccessResult;
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline.Command;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.secret.SecretProviderDiscovery;
 import io.camunda.zeebe.client.api.command.FinalCommandStep;
@@ -39,6 +41,14 @@ import java.time.Duration;
 import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,11 +62,21 @@ public class ConnectorJobHandler implements JobHandler {
 
   protected final OutboundConnectorFunction call;
   protected SecretProvider secretProvider;
+  private volatile SecretProvider discoveredSecretProvider;
 
   protected ValidationProvider validationProvider;
 
   protected ObjectMapper objectMapper;
 
+  protected JobCommandPipeline commandPipeline;
+
+  protected JobPhase.Listener phaseListener;
+
+  private Executor asyncResultExecutor;
+
+  private Semaphore asyncPermits =
+      new Semaphore(ConnectorJobHandlerOptions.DEFAULT_MAX_ASYNC_JOBS_IN_FLIGHT);
+
   /**
    * Create a handler wrapper for the specified connector function.
    *
@@ -84,6 +104,25 @@ public class ConnectorJobHandler implements JobHandler {
     this.objectMapper = objectMapper;
   }
 
+  /**
+   * Create a handler wrapper for the specified connector function with optional features enabled.
+   *
+   * @param call - the connector function to call
+   * @param options - the optional features to enable, e.g. a {@link JobCommandPipeline}
+   */
+  public ConnectorJobHandler(
+      final OutboundConnectorFunction call,
+      final SecretProvider secretProvider,
+      final ValidationProvider validationProvider,
+      final ObjectMapper objectMapper,
+      final ConnectorJobHandlerOptions options) {
+    this(call, secretProvider, validationProvider, objectMapper);
+    this.commandPipeline = options.commandPipeline();
+    this.phaseListener = options.phaseListener();
+    this.asyncResultExecutor = options.asyncResultExecutor();
+    this.asyncPermits = new Semaphore(options.maxAsyncJobsInFlight());
+  }
+
   @Override
   public void handle(final JobClient client, final ActivatedJob job) {
     LOGGER.info("Received job: {} for tenant: {}", job.getKey(), job.getTenantId());
@@ -98,45 +137,166 @@ public class ConnectorJobHandler implements JobHandler {
       return;
     }
 
+    // asynchronous connectors release the calling thread, the job is completed, failed or
+    // rejected with a BPMN error once the returned stage completes
+    if (call instanceof AsyncOutboundConnectorFunction asyncCall) {
+      handleAsync(asyncCall, client, job, retryBackoff);
+      return;
+    }
+
     ConnectorResult result;
+    long start = System.nanoTime();
+    JobHandlerContext context = null;
     try {
-      var context =
-          new JobHandlerContext(job, getSecretProvider(), validationProvider, objectMapper);
+      context = newContext(job);
       var response = call.execute(context);
+      recordExecution(job, context, start);
+      result = toResult(job, response, retryBackoff);
+    } catch (Exception ex) {
+      recordExecution(job, context, start);
+      result = toErrorResult(job, ex, retryBackoff);
+    }
+    handleResult(client, job, result);
+  }
+
+  /**
+   * Executes the asynchronous connector once one of the permits for jobs in flight is available,
+   * blocking the calling thread until then. The result is handled on the result executor rather
+   * than on the thread that completes the stage, which is often an I/O thread of the connector.
+   */
+  private void handleAsync(
+      AsyncOutboundConnectorFunction asyncCall,
+      JobClient client,
+      ActivatedJob job,
+      Duration retryBackoff) {
+    try {
+      asyncPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failJob(
+          client,
+          job,
+          new ErrorResult(Map.of("error", exceptionToMap(e)), e, job.getRetries(), retryBackoff));
+      return;
+    }
+    executeAsync(asyncCall, job)
+        .handleAsync(
+            (response, error) -> {
+              handleResult(
+                  client,
+                  job,
+                  error == null
+                      ? toResult(job, response, retryBackoff)
+                      : toErrorResult(job, unwrap(error), retryBackoff));
+              return null;
+            },
+            getAsyncResultExecutor())
+        .whenComplete(
+            (ignored, ex) -> {
+              asyncPermits.release();
+              if (ex != null) {
+                logError(job, unwrap(ex));
+              }
+            });
+  }
+
+  private CompletionStage<Object> executeAsync(
+      AsyncOutboundConnectorFunction call, ActivatedJob job) {
+    long start = System.nanoTime();
+    JobHandlerContext context = null;
+    try {
+      context = newContext(job);
+      var finalContext = context;
+      return call.executeAsync(context)
+          .whenComplete((response, error) -> recordExecution(job, finalContext, start));
+    } catch (Exception ex) {
+      recordExecution(job, context, start);
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  private Executor getAsyncResultExecutor() {
+    return asyncResultExecutor != null ? asyncResultExecutor : AsyncResultExecutor.INSTANCE;
+  }
+
+  private JobHandlerContext newContext(ActivatedJob job) {
+    return new JobHandlerContext(
+        job, getSecretProvider(), validationProvider, objectMapper, phaseListener);
+  }
+
+  private void recordExecution(ActivatedJob job, JobHandlerContext context, long start) {
+    recordPhase(job, JobPhase.EXECUTION, start);
+    if (context != null) {
+      context.recordSecretResolution();
+    }
+  }
+
+  /** Reports the phase as completed now if a phase listener is set. */
+  protected void recordPhase(ActivatedJob job, JobPhase phase, long startNanos) {
+    if (phaseListener != null) {
+      phaseListener.onPhaseCompleted(job, phase, System.nanoTime() - startNanos);
+    }
+  }
+
+  private static Exception unwrap(Throwable error) {
+    var cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    return cause instanceof Exception exception ? exception : new RuntimeException(cause);
+  }
+
+  private ConnectorResult toResult(ActivatedJob job, Object response, Duration retryBackoff) {
+    var resultExpression = job.getCustomHeaders().get(Keywords.RESULT_EXPRESSION_KEYWORD);
+    long start = System.nanoTime();
+    try {
       var responseVariables =
           ConnectorHelper.createOutputVariables(
               response,
               job.getCustomHeaders().get(Keywords.RESULT_VARIABLE_KEYWORD),
-              job.getCustomHeaders().get(Keywords.RESULT_EXPRESSION_KEYWORD));
-      result = new ConnectorResult.SuccessResult(response, responseVariables);
+              resultExpression);
+      if (resultExpression != null) {
+        recordPhase(job, JobPhase.RESULT_EXPRESSION, start);
+      }
+      return new ConnectorResult.SuccessResult(response, responseVariables);
     } catch (Exception ex) {
-      LOGGER.debug(
-          "Exception while processing job: {} for tenant: {}", job.getKey(), job.getTenantId(), ex);
-      result =
-          new ConnectorResult.ErrorResult(
-              Map.of("error", exceptionToMap(ex)), ex, job.getRetries() - 1, retryBackoff);
+      return toErrorResult(job, ex, retryBackoff);
+    }
+  }
+
+  private ConnectorResult toErrorResult(ActivatedJob job, Exception ex, Duration retryBackoff) {
+    LOGGER.debug(
+        "Exception while processing job: {} for tenant: {}", job.getKey(), job.getTenantId(), ex);
+    if (ex instanceof CircuitBreakerOpenException open) {
+      // the connector was not called, so the attempt does not count against the retries
+      return new ConnectorResult.ErrorResult(
+          Map.of("error", exceptionToMap(ex)), ex, job.getRetries(), open.getRetryBackoff());
     }
+    return new ConnectorResult.ErrorResult(
+        Map.of("error", exceptionToMap(ex)), ex, job.getRetries() - 1, retryBackoff);
+  }
 
+  private void handleResult(JobClient client, ActivatedJob job, ConnectorResult result) {
     try {
-      final ConnectorResult finalResult = result;
-      ConnectorHelper.examineErrorExpression(result.responseValue(), job.getCustomHeaders())
-          .ifPresentOrElse(
-              error -> {
-                LOGGER.debug(
-                    "Throwing BPMN error for job {} with code {}", job.getKey(), error.code());
-                throwBpmnError(client, job, error);
-              },
-              () -> {
-                if (finalResult instanceof SuccessResult successResult) {
-                  LOGGER.debug(
-                      "Completing job: {} for tenant: {}", job.getKey(), job.getTenantId());
-                  completeJob(client, job, successResult);
-                } else {
-                  var errorResult = (ErrorResult) finalResult;
-                  logError(job, errorResult.exception());
-                  failJob(client, job, errorResult);
-                }
-              });
+      long start = System.nanoTime();
+      var bpmnError =
+          ConnectorHelper.examineErrorExpression(result.responseValue(), job.getCustomHeaders());
+      if (job.getCustomHeaders().get(Keywords.ERROR_EXPRESSION_KEYWORD) != null) {
+        recordPhase(job, JobPhase.ERROR_EXPRESSION, start);
+      }
+      bpmnError.ifPresentOrElse(
+          error -> {
+            LOGGER.debug("Throwing BPMN error for job {} with code {}", job.getKey(), error.code());
+            throwBpmnError(client, job, error);
+          },
+          () -> {
+            if (result instanceof SuccessResult successResult) {
+              LOGGER.debug("Completing job: {} for tenant: {}", job.getKey(), job.getTenantId());
+              completeJob(client, job, successResult);
+            } else {
+              var errorResult = (ErrorResult) result;
+              logError(job, errorResult.exception());
+              failJob(client, job, errorResult);
+            }
+          });
     } catch (Exception ex) {
       logError(job, ex);
       // failure while parsing the error expression
@@ -149,8 +309,13 @@ public class ConnectorJobHandler implements JobHandler {
     if (secretProvider != null) {
       return secretProvider;
     }
-    // otherwise fall back to default implementation (SPI discovery)
-    return new SecretProviderAggregator(SecretProviderDiscovery.discoverSecretProviders());
+    // otherwise fall back to default implementation (SPI discovery), discovered once per handler
+    var provider = discoveredSecretProvider;
+    if (provider == null) {
+      provider = new SecretProviderAggregator(SecretProviderDiscovery.discoverSecretProviders());
+      discoveredSecretProvider = provider;
+    }
+    return provider;
   }
 
   protected void logError(ActivatedJob job, Exception ex) {
@@ -160,15 +325,49 @@ public class ConnectorJobHandler implements JobHandler {
 
   protected void completeJob(
       JobClient client, ActivatedJob job, ConnectorResult.SuccessResult result) {
-    prepareCompleteJobCommand(client, job, result).send().join();
+    sendCommand(job, Command.COMPLETE, prepareCompleteJobCommand(client, job, result));
   }
 
   protected void failJob(JobClient client, ActivatedJob job, ConnectorResult.ErrorResult result) {
-    prepareFailJobCommand(client, job, result).send().join();
+    sendCommand(job, Command.FAIL, prepareFailJobCommand(client, job, result));
   }
 
   protected void throwBpmnError(JobClient client, ActivatedJob job, BpmnError value) {
-    prepareThrowBpmnErrorCommand(client, job, value).send().join();
+    sendCommand(job, Command.THROW_ERROR, prepareThrowBpmnErrorCommand(client, job, value));
+  }
+
+  /**
+   * Sends the command through the pipeline if present. Otherwise, waits for the response for
+   * synchronous connectors. For asynchronous connectors, the command is sent without waiting, as
+   * the result is handled on a shared executor.
+   */
+  protected void sendCommand(ActivatedJob job, Command command, FinalCommandStep<?> step) {
+    long start = System.nanoTime();
+    if (commandPipeline != null) {
+      commandPipeline
+          .send(job, command, step)
+          .whenComplete((response, error) -> recordPhase(job, JobPhase.COMMAND_SEND, start));
+    } else if (call instanceof AsyncOutboundConnectorFunction) {
+      step.send()
+          .whenComplete(
+              (response, error) -> {
+                recordPhase(job, JobPhase.COMMAND_SEND, start);
+                if (error != null) {
+                  LOGGER.warn(
+                      "Failed to send {} command for job {} of type {}",
+                      command,
+                      job.getKey(),
+                      job.getType(),
+                      error);
+                }
+              });
+    } else {
+      try {
+        step.send().join();
+      } finally {
+        recordPhase(job, JobPhase.COMMAND_SEND, start);
+      }
+    }
   }
 
   protected static Map<String, Object> exceptionToMap(Exception exception) {
@@ -236,4 +435,20 @@ public class ConnectorJobHandler implements JobHandler {
         ? message.substring(0, Math.min(message.length(), MAX_ERROR_MESSAGE_LENGTH))
         : null;
   }
+
+  /** Shared executor for the results of asynchronous connectors, created on first use. */
+  private static final class AsyncResultExecutor {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    static final ExecutorService INSTANCE =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            runnable -> {
+              var thread =
+                  new Thread(runnable, "connector-async-result-" + THREAD_COUNT.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Optional features of a {@link ConnectorJobHandler}. Features that are not set are disabled.
+ *
+ * @param commandPipeline - pipeline to send complete, fail and throw error commands with, or {@code
+ *     null} to send each command directly
+ * @param phaseListener - receives the duration of each phase of a job, or {@code null}
+ * @param asyncResultExecutor - executor to handle the results of asynchronous connectors on, or
+ *     {@code null} to use a shared pool with one thread per processor
+ * @param maxAsyncJobsInFlight - maximum number of jobs of an asynchronous connector that are
+ *     executing at once
+ */
+public record ConnectorJobHandlerOptions(
+    JobCommandPipeline commandPipeline,
+    JobPhase.Listener phaseListener,
+    Executor asyncResultExecutor,
+    int maxAsyncJobsInFlight) {
+
+  /** Maximum number of jobs of an asynchronous connector executing at once, by default */
+  public static final int DEFAULT_MAX_ASYNC_JOBS_IN_FLIGHT = 1000;
+
+  public static final ConnectorJobHandlerOptions DEFAULT = builder().build();
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+
+    private JobCommandPipeline commandPipeline;
+    private JobPhase.Listener phaseListener;
+    private Executor asyncResultExecutor;
+    private int maxAsyncJobsInFlight = DEFAULT_MAX_ASYNC_JOBS_IN_FLIGHT;
+
+    public Builder commandPipeline(JobCommandPipeline commandPipeline) {
+      this.commandPipeline = commandPipeline;
+      return this;
+    }
+
+    public Builder phaseListener(JobPhase.Listener phaseListener) {
+      this.phaseListener = phaseListener;
+      return this;
+    }
+
+    public Builder asyncResultExecutor(Executor asyncResultExecutor) {
+      this.asyncResultExecutor = asyncResultExecutor;
+      return this;
+    }
+
+    public Builder maxAsyncJobsInFlight(int maxAsyncJobsInFlight) {
+      this.maxAsyncJobsInFlight = maxAsyncJobsInFlight;
+      return this;
+    }
+
+    public ConnectorJobHandlerOptions build() {
+      if (maxAsyncJobsInFlight < 1) {
+        throw new IllegalArgumentException(
+            "Maximum number of asynchronous jobs in flight must be positive, but was "
+                + maxAsyncJobsInFlight);
+      }
+      return new ConnectorJobHandlerOptions(
+          commandPipeline, phaseListener, asyncResultExecutor, maxAsyncJobsInFlight);
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends complete, fail and throw error commands for jobs without waiting for the gateway to
+ * respond, so that the thread that handled the job is released right away.
+ *
+ * <p>The number of commands in flight is limited. When the limit is reached, further commands are
+ * queued and sent as soon as a pending command is answered, so that the calling thread, possibly an
+ * I/O thread of the client, never blocks. Commands rejected with a transient gateway error are
+ * retried with exponential backoff while still holding their slot.
+ *
+ * <p>The queue is bounded as well. Once it is full, further commands fail right away with a {@link
+ * RejectedExecutionException}. The job they belong to stays activated until its timeout expires and
+ * is then activated again, so the gateway sees less load until the backlog is sent.
+ */
+public class JobCommandPipeline implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobCommandPipeline.class);
+
+  /** Gateway status codes worth retrying, everything else fails the command right away */
+  public static final Set<Status.Code> TRANSIENT_STATUS_CODES =
+      EnumSet.of(
+          Status.Code.UNAVAILABLE, Status.Code.RESOURCE_EXHAUSTED, Status.Code.DEADLINE_EXCEEDED);
+
+  public enum Command {
+    COMPLETE,
+    FAIL,
+    THROW_ERROR
+  }
+
+  /** Callbacks to record metrics of the commands sent by the pipeline, per job type. */
+  public interface Listener {
+
+    default void onSent(String type, Command command) {}
+
+    default void onRetried(String type, Command command, Throwable error) {}
+
+    default void onFailed(String type, Command command, Throwable error) {}
+
+    default void onRejected(String type, Command command) {}
+  }
+
+  private record PendingCommand(
+      ActivatedJob job,
+      Command command,
+      FinalCommandStep<?> step,
+      CompletableFuture<Void> result) {}
+
+  private final Semaphore inFlight;
+  private final Queue<PendingCommand> queued = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queuedCount = new AtomicInteger();
+  private final int maxQueued;
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  private final int maxRetries;
+  private final Duration retryBackoff;
+  private final Listener listener;
+  private final ScheduledExecutorService retryScheduler;
+
+  /**
+   * @param maxInFlight - maximum number of commands awaiting a response from the gateway
+   * @param maxQueued - maximum number of commands waiting for a free slot
+   * @param maxRetries - how often a command is retried after a transient gateway error
+   * @param retryBackoff - delay before the first retry, doubled for every further retry
+   * @param listener - callbacks for metrics
+   */
+  public JobCommandPipeline(
+      int maxInFlight, int maxQueued, int maxRetries, Duration retryBackoff, Listener listener) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException(
+          "Maximum number of commands in flight must be positive, but was " + maxInFlight);
+    }
+    if (maxQueued < 0) {
+      throw new IllegalArgumentException(
+          "Maximum number of queued commands must not be negative, but was " + maxQueued);
+    }
+    this.inFlight = new Semaphore(maxInFlight);
+    this.maxQueued = maxQueued;
+    this.maxRetries = maxRetries;
+    this.retryBackoff = retryBackoff;
+    this.listener = listener;
+    this.retryScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              var thread = new Thread(runnable, "job-command-retry");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Sends the command, or queues it while the maximum number of commands is in flight. Never
+   * blocks.
+   *
+   * @return a stage that completes once the gateway accepted the command, or exceptionally once the
+   *     command failed for good or was rejected because the queue is full
+   */
+  public CompletionStage<Void> send(ActivatedJob job, Command command, FinalCommandStep<?> step) {
+    if (queuedCount.incrementAndGet() > maxQueued && inFlight.availablePermits() == 0) {
+      queuedCount.decrementAndGet();
+      listener.onRejected(job.getType(), command);
+      LOG.warn(
+          "Rejected {} command for job {} of type {}, {} commands are already queued",
+          command,
+          job.getKey(),
+          job.getType(),
+          maxQueued);
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("Job command queue is full"));
+    }
+    var result = new CompletableFuture<Void>();
+    queued.add(new PendingCommand(job, command, step, result));
+    drain();
+    return result;
+  }
+
+  /**
+   * @return the number of additional commands that can be sent without being queued
+   */
+  public int availableSlots() {
+    return inFlight.availablePermits();
+  }
+
+  /**
+   * @return the number of commands waiting for a free slot
+   */
+  public int queuedCommands() {
+    return queuedCount.get();
+  }
+
+  /**
+   * Sends queued commands while slots are available. Only one thread drains at a time, a call
+   * arriving meanwhile makes the draining thread check the queue again instead, which also keeps
+   * commands that complete synchronously from recursing.
+   */
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      while (!queued.isEmpty() && inFlight.tryAcquire()) {
+        var next = queued.poll();
+        if (next == null) {
+          inFlight.release();
+          break;
+        }
+        queuedCount.decrementAndGet();
+        next.result()
+            .whenComplete(
+                (ignored, error) -> {
+                  inFlight.release();
+                  drain();
+                });
+        send(next.job(), next.command(), next.step(), 0, next.result());
+      }
+      missed = drainRequests.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void send(
+      ActivatedJob job,
+      Command command,
+      FinalCommandStep<?> step,
+      int attempt,
+      CompletableFuture<Void> result) {
+    CompletionStage<?> response;
+    try {
+      response = step.send();
+    } catch (Exception e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+    response.whenComplete(
+        (ignored, error) -> {
+          if (error == null) {
+            listener.onSent(job.getType(), command);
+            result.complete(null);
+          } else if (attempt < maxRetries && isTransient(error)) {
+            listener.onRetried(job.getType(), command, error);
+            long delay = retryBackoff.toMillis() << Math.min(attempt, 16);
+            LOG.debug(
+                "Retrying {} command for job {} in {} ms: {}",
+                command,
+                job.getKey(),
+                delay,
+                error.getMessage());
+            try {
+              retryScheduler.schedule(
+                  () -> send(job, command, step, attempt + 1, result),
+                  delay,
+                  TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+              // pipeline closed
+              result.completeExceptionally(error);
+            }
+          } else {
+            listener.onFailed(job.getType(), command, error);
+            LOG.warn(
+                "Failed to send {} command for job {} of type {}",
+                command,
+                job.getKey(),
+                job.getType(),
+                error);
+            result.completeExceptionally(error);
+          }
+        });
+  }
+
+  private static boolean isTransient(Throwable error) {
+    var cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause instanceof ClientStatusException statusException) {
+      return TRANSIENT_STATUS_CODES.contains(statusException.getStatusCode());
+    }
+    return cause instanceof StatusRuntimeException statusException
+        && TRANSIENT_STATUS_CODES.contains(statusException.getStatus().getCode());
+  }
+
+  @Override
+  public void close() {
+    retryScheduler.shutdownNow();
+    PendingCommand pending;
+    while ((pending = queued.poll()) != null) {
+      queuedCount.decrementAndGet();
+      pending.result().completeExceptionally(new RejectedExecutionException("Pipeline closed"));
+    }
+  }
+}
@@ -18,13 +18,18 @@ package io.camunda.connector.runtime.core.outbound;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.outbound.JobContext;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.AbstractConnectorContext;
+import io.camunda.connector.runtime.core.secret.SecretReplacingJsonParser;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of {@link io.camunda.connector.api.outbound.OutboundConnectorContext} passed on to
@@ -34,6 +39,8 @@ import java.util.Objects;
 public class JobHandlerContext extends AbstractConnectorContext
     implements OutboundConnectorContext {
 
+  private static final String SECRETS_PREFIX = "secrets.";
+
   private final ActivatedJob job;
 
   private final ObjectMapper objectMapper;
@@ -42,24 +49,77 @@ public class JobHandlerContext extends AbstractConnectorContext
 
   private final JobContext jobContext;
 
+  private final JobPhase.Listener phaseListener;
+
+  private final TimedSecretProvider timedSecretProvider;
+
   public JobHandlerContext(
       final ActivatedJob job,
       final SecretProvider secretProvider,
       final ValidationProvider validationProvider,
       final ObjectMapper objectMapper) {
-    super(secretProvider, validationProvider);
+    this(job, secretProvider, validationProvider, objectMapper, null);
+  }
+
+  /**
+   * @param phaseListener - receives the duration of variable binding, secret resolution and
+   *     validation, may be null
+   */
+  public JobHandlerContext(
+      final ActivatedJob job,
+      final SecretProvider secretProvider,
+      final ValidationProvider validationProvider,
+      final ObjectMapper objectMapper,
+      final JobPhase.Listener phaseListener) {
+    this(
+        job,
+        phaseListener == null || secretProvider == null
+            ? null
+            : new TimedSecretProvider(secretProvider),
+        secretProvider,
+        validationProvider,
+        objectMapper,
+        phaseListener);
+  }
+
+  private JobHandlerContext(
+      final ActivatedJob job,
+      final TimedSecretProvider timedSecretProvider,
+      final SecretProvider secretProvider,
+      final ValidationProvider validationProvider,
+      final ObjectMapper objectMapper,
+      final JobPhase.Listener phaseListener) {
+    super(timedSecretProvider != null ? timedSecretProvider : secretProvider, validationProvider);
     this.job = job;
     this.objectMapper = objectMapper;
     this.jobContext = new ActivatedJobContext(job, this::getJsonReplacedWithSecrets);
+    this.phaseListener = phaseListener;
+    this.timedSecretProvider = timedSecretProvider;
   }
 
   @Override
   public <T> T bindVariables(Class<T> cls) {
+    if (phaseListener == null) {
+      var mappedObject = mapJson(cls);
+      getValidationProvider().validate(mappedObject);
+      return mappedObject;
+    }
+    long start = System.nanoTime();
     var mappedObject = mapJson(cls);
+    long bound = System.nanoTime();
+    phaseListener.onPhaseCompleted(job, JobPhase.VARIABLE_BINDING, bound - start);
     getValidationProvider().validate(mappedObject);
+    phaseListener.onPhaseCompleted(job, JobPhase.VALIDATION, System.nanoTime() - bound);
     return mappedObject;
   }
 
+  /** Reports the time spent looking up secrets so far, if any secrets were looked up. */
+  void recordSecretResolution() {
+    if (timedSecretProvider != null && timedSecretProvider.lookups > 0) {
+      phaseListener.onPhaseCompleted(job, JobPhase.SECRET_RESOLUTION, timedSecretProvider.nanos);
+    }
+  }
+
   private String getJsonReplacedWithSecrets() {
     if (jsonWithSecrets == null) {
       jsonWithSecrets = getSecretHandler().replaceSecrets(job.getVariables());
@@ -68,19 +128,85 @@ public class JobHandlerContext extends AbstractConnectorContext
   }
 
   private <T> T mapJson(Class<T> cls) {
-    var jsonWithSecrets = getJsonReplacedWithSecrets();
+    // secrets are replaced in the field names and string values while binding, the variables are
+    // parsed only once and all secrets they reference are resolved at once
+    var variables = job.getVariables();
     try {
-      return objectMapper.readValue(jsonWithSecrets, cls);
+      if (!variables.contains(SECRETS_PREFIX)) {
+        return objectMapper.readValue(variables, cls);
+      }
+      try (var parser =
+          new SecretReplacingJsonParser(
+              objectMapper.createParser(variables),
+              getSecretHandler().createJsonSecretReplacer(variables))) {
+        return objectMapper.readValue(parser, cls);
+      }
     } catch (Exception e) {
+      findConnectorInputException(e)
+          .ifPresent(
+              inputException -> {
+                throw inputException;
+              });
       throw new ConnectorException("JSON_MAPPING", "Error during json mapping.");
     }
   }
 
+  // a missing secret is reported as such and not hidden behind a mapping error
+  private static Optional<ConnectorInputException> findConnectorInputException(Throwable e) {
+    for (var cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConnectorInputException inputException) {
+        return Optional.of(inputException);
+      }
+    }
+    return Optional.empty();
+  }
+
   @Override
   public JobContext getJobContext() {
     return jobContext;
   }
 
+  /**
+   * @return the job as activated, its variables are not touched by secret replacement
+   */
+  ActivatedJob getActivatedJob() {
+    return job;
+  }
+
+  // a context is used by one job at a time, so plain fields are sufficient
+  private static class TimedSecretProvider implements SecretProvider {
+
+    private final SecretProvider delegate;
+    private long nanos;
+    private int lookups;
+
+    TimedSecretProvider(SecretProvider delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public String getSecret(String name) {
+      long start = System.nanoTime();
+      try {
+        return delegate.getSecret(name);
+      } finally {
+        nanos += System.nanoTime() - start;
+        lookups++;
+      }
+    }
+
+    @Override
+    public Map<String, String> getSecrets(Set<String> names) {
+      long start = System.nanoTime();
+      try {
+        return delegate.getSecrets(names);
+      } finally {
+        nanos += System.nanoTime() - start;
+        lookups++;
+      }
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+
+/**
+ * Phases of handling an outbound job, reported to a {@link Listener} with their duration by the
+ * {@link ConnectorJobHandler}.
+ *
+ * <p>Connectors bind their variables while executing, so {@link #EXECUTION} includes {@link
+ * #VARIABLE_BINDING}, {@link #SECRET_RESOLUTION} and {@link #VALIDATION}, and secrets are resolved
+ * while the variables are bound. Phases that do not apply to a job, e.g. a result expression that
+ * is not set, are not reported.
+ */
+public enum JobPhase {
+  /** Mapping the job variables to the input type of the connector */
+  VARIABLE_BINDING("variable-binding"),
+  /** Looking up secrets, summed up per job */
+  SECRET_RESOLUTION("secret-resolution"),
+  /** Validating the bound input */
+  VALIDATION("validation"),
+  /** Calling the connector, until the returned stage completes for asynchronous connectors */
+  EXECUTION("execution"),
+  /** Evaluating the result expression */
+  RESULT_EXPRESSION("result-expression"),
+  /** Evaluating the error expression */
+  ERROR_EXPRESSION("error-expression"),
+  /** Sending the complete, fail or throw error command, until the gateway responds */
+  COMMAND_SEND("command-send");
+
+  /** Receives the duration of each completed phase. */
+  @FunctionalInterface
+  public interface Listener {
+
+    void onPhaseCompleted(ActivatedJob job, JobPhase phase, long durationNanos);
+  }
+
+  private final String value;
+
+  JobPhase(String value) {
+    this.value = value;
+  }
+
+  /**
+   * @return the name of the phase as used in metrics, e.g. {@code variable-binding}
+   */
+  public String value() {
+    return value;
+  }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.api.outbound.AsyncOutboundConnectorFunction;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Circuit breaker for outbound connectors, keyed by job type and, where the job variables declare
+ * one, the target host.
+ *
+ * <p>After {@code failureThreshold} consecutive failures the breaker opens: jobs are failed without
+ * calling the connector, keeping their retries, with a retry backoff of the remaining open time.
+ * Once the open time has passed, a single probe job is let through. If it succeeds the breaker
+ * closes, otherwise it opens again for twice as long, up to {@code maxOpenDuration}.
+ *
+ * <p>By default only errors that indicate an unavailable target are counted as failures, see {@link
+ * #isTargetUnavailable(Throwable)}. Client and business errors, which error expressions usually map
+ * to BPMN errors, are not counted, and neither are input errors ({@link ConnectorInputException}).
+ *
+ * <p>The target is the host of the {@code url}, {@code queue.url} or {@code graphql.url} variable,
+ * as used by the HTTP, GraphQL and SQS connectors, read from the variables of the activated job
+ * before secret replacement. Jobs without a recognizable target share the breaker of their type. At
+ * most {@code maxTargets} breakers are kept, beyond that idle breakers are dropped, and jobs of new
+ * targets share the breaker of their type until there is room again.
+ */
+public class OutboundCircuitBreaker {
+
+  /** Callbacks to record metrics of the breaker, per job type. */
+  public interface Listener {
+
+    default void onOpened(String type, String target) {}
+
+    default void onClosed(String type, String target) {}
+
+    default void onRejected(String type, String target) {}
+  }
+
+  static final Set<String> TARGET_VARIABLES = Set.of("url", "queue.url", "graphql.url");
+
+  static final int DEFAULT_MAX_TARGETS = 1000;
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  record Key(String type, String target) {}
+
+  private enum Status {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final Duration maxOpenDuration;
+  private final Listener listener;
+  private final Predicate<Throwable> failureClassifier;
+  private final int maxTargets;
+  private final LongSupplier nanoTime;
+  private final Map<Key, State> states = new ConcurrentHashMap<>();
+
+  public OutboundCircuitBreaker(
+      int failureThreshold, Duration openDuration, Duration maxOpenDuration, Listener listener) {
+    this(
+        failureThreshold,
+        openDuration,
+        maxOpenDuration,
+        listener,
+        OutboundCircuitBreaker::isTargetUnavailable);
+  }
+
+  /**
+   * @param failureClassifier - decides whether an error of the connector counts as a failure of the
+   *     target
+   */
+  public OutboundCircuitBreaker(
+      int failureThreshold,
+      Duration openDuration,
+      Duration maxOpenDuration,
+      Listener listener,
+      Predicate<Throwable> failureClassifier) {
+    this(
+        failureThreshold,
+        openDuration,
+        maxOpenDuration,
+        listener,
+        failureClassifier,
+        DEFAULT_MAX_TARGETS,
+        System::nanoTime);
+  }
+
+  OutboundCircuitBreaker(
+      int failureThreshold,
+      Duration openDuration,
+      Duration maxOpenDuration,
+      Listener listener,
+      Predicate<Throwable> failureClassifier,
+      int maxTargets,
+      LongSupplier nanoTime) {
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException("Failure threshold must be at least 1");
+    }
+    if (openDuration.isNegative() || openDuration.isZero()) {
+      throw new IllegalArgumentException("Open duration must be positive");
+    }
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.maxOpenDuration =
+        maxOpenDuration.compareTo(openDuration) < 0 ? openDuration : maxOpenDuration;
+    this.listener = listener;
+    this.failureClassifier = failureClassifier;
+    this.maxTargets = maxTargets;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * The default failure classification: transport errors and timeouts anywhere in the cause chain,
+   * and {@link ConnectorException}s with a 5xx error code, as thrown by the HTTP connectors for
+   * server errors. All other errors are caused by the job or answered by the target.
+   */
+  public static boolean isTargetUnavailable(Throwable error) {
+    for (var cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException
+          || cause instanceof UncheckedIOException
+          || cause instanceof TimeoutException) {
+        return true;
+      }
+      if (cause instanceof ConnectorException connectorException) {
+        return isServerError(connectorException.getErrorCode());
+      }
+    }
+    return false;
+  }
+
+  private static boolean isServerError(String errorCode) {
+    return errorCode != null
+        && errorCode.length() == 3
+        && errorCode.charAt(0) == '5'
+        && Character.isDigit(errorCode.charAt(1))
+        && Character.isDigit(errorCode.charAt(2));
+  }
+
+  /**
+   * Wraps the connector function so that it is only called while the breaker of the job's type and
+   * target is closed or probing. The returned function is asynchronous if and only if the given
+   * function is.
+   */
+  public OutboundConnectorFunction decorate(OutboundConnectorFunction function) {
+    if (function instanceof AsyncOutboundConnectorFunction asyncFunction) {
+      return new BreakingAsyncFunction(asyncFunction);
+    }
+    return new BreakingFunction(function);
+  }
+
+  private State acquire(OutboundConnectorContext context) {
+    var state = state(new Key(context.getJobContext().getType(), target(context)));
+    var key = state.key;
+    long remaining = state.tryAcquire(nanoTime.getAsLong());
+    if (remaining > 0) {
+      listener.onRejected(key.type(), key.target());
+      throw new CircuitBreakerOpenException(key.type(), key.target(), Duration.ofNanos(remaining));
+    }
+    return state;
+  }
+
+  private State state(Key key) {
+    var state = states.get(key);
+    if (state != null) {
+      return state;
+    }
+    if (states.size() >= maxTargets) {
+      states.values().removeIf(State::isIdle);
+      if (states.size() >= maxTargets) {
+        key = new Key(key.type(), "");
+      }
+    }
+    return states.computeIfAbsent(key, State::new);
+  }
+
+  int size() {
+    return states.size();
+  }
+
+  private void record(State state, Throwable error) {
+    if (error == null) {
+      state.onSuccess();
+    } else if (error instanceof ConnectorInputException || !failureClassifier.test(error)) {
+      state.onIgnored(nanoTime.getAsLong());
+    } else {
+      state.onFailure(nanoTime.getAsLong());
+    }
+  }
+
+  /**
+   * @return the target of the job, read from the variables of the activated job so that no secrets
+   *     are resolved, or an empty string if the context does not expose the activated job
+   */
+  private static String target(OutboundConnectorContext context) {
+    if (context instanceof JobHandlerContext handlerContext) {
+      return target(handlerContext.getActivatedJob().getVariables());
+    }
+    return "";
+  }
+
+  /**
+   * Finds the host of the first target variable in the given JSON variables, reading only the top
+   * two levels of the document.
+   *
+   * @return the host, or an empty string if there is no target variable with a URI with a host
+   */
+  static String target(String variables) {
+    if (variables == null || variables.isEmpty()) {
+      return "";
+    }
+    try (JsonParser parser = JSON_FACTORY.createParser(variables)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return "";
+      }
+      String value = findTarget(parser, "");
+      return value == null ? "" : toHost(value);
+    } catch (IOException e) {
+      return "";
+    }
+  }
+
+  private static String findTarget(JsonParser parser, String prefix) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String path = prefix + parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.VALUE_STRING && TARGET_VARIABLES.contains(path)) {
+        return parser.getText();
+      } else if (token == JsonToken.START_OBJECT && prefix.isEmpty()) {
+        String value = findTarget(parser, path + ".");
+        if (value != null) {
+          return value;
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return null;
+  }
+
+  private static String toHost(String value) {
+    try {
+      String host = URI.create(value.trim()).getHost();
+      return host != null ? host : "";
+    } catch (IllegalArgumentException e) {
+      return "";
+    }
+  }
+
+  private class State {
+
+    private final Key key;
+    private Status status = Status.CLOSED;
+    private int consecutiveFailures;
+    private int openings;
+    private long openUntil;
+
+    State(Key key) {
+      this.key = key;
+    }
+
+    /**
+     * @return 0 if the call may proceed, otherwise the nanoseconds to wait before retrying
+     */
+    synchronized long tryAcquire(long now) {
+      switch (status) {
+        case CLOSED:
+          return 0;
+        case OPEN:
+          if (openUntil - now > 0) {
+            return openUntil - now;
+          }
+          status = Status.HALF_OPEN;
+          return 0;
+        default:
+          // a probe is in flight, wait at least as long as the breaker was last opened for
+          return currentOpenDuration().toNanos();
+      }
+    }
+
+    /** Whether the breaker is closed without recent failures and can be dropped. */
+    synchronized boolean isIdle() {
+      return status == Status.CLOSED && consecutiveFailures == 0;
+    }
+
+    synchronized void onSuccess() {
+      consecutiveFailures = 0;
+      if (status != Status.CLOSED) {
+        status = Status.CLOSED;
+        openings = 0;
+        listener.onClosed(key.type(), key.target());
+      }
+    }
+
+    /** The call failed for a reason other than the target, let the next job probe instead. */
+    synchronized void onIgnored(long now) {
+      if (status == Status.HALF_OPEN) {
+        status = Status.OPEN;
+        openUntil = now;
+      }
+    }
+
+    synchronized void onFailure(long now) {
+      if (status == Status.HALF_OPEN) {
+        openings++;
+        open(now);
+      } else if (status == Status.CLOSED && ++consecutiveFailures >= failureThreshold) {
+        open(now);
+      }
+    }
+
+    private void open(long now) {
+      status = Status.OPEN;
+      consecutiveFailures = 0;
+      openUntil = now + currentOpenDuration().toNanos();
+      listener.onOpened(key.type(), key.target());
+    }
+
+    private Duration currentOpenDuration() {
+      var duration = openDuration.multipliedBy(1L << Math.min(openings, 30));
+      return duration.compareTo(maxOpenDuration) > 0 ? maxOpenDuration : duration;
+    }
+  }
+
+  private class BreakingFunction implements OutboundConnectorFunction {
+
+    private final OutboundConnectorFunction delegate;
+
+    BreakingFunction(OutboundConnectorFunction delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Object execute(OutboundConnectorContext context) throws Exception {
+      var state = acquire(context);
+      try {
+        var result = delegate.execute(context);
+        record(state, null);
+        return result;
+      } catch (Exception e) {
+        record(state, e);
+        throw e;
+      }
+    }
+  }
+
+  private class BreakingAsyncFunction implements AsyncOutboundConnectorFunction {
+
+    private final AsyncOutboundConnectorFunction delegate;
+
+    BreakingAsyncFunction(AsyncOutboundConnectorFunction delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public CompletionStage<Object> executeAsync(OutboundConnectorContext context) {
+      State state;
+      try {
+        state = acquire(context);
+      } catch (CircuitBreakerOpenException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+      CompletionStage<Object> stage;
+      try {
+        stage = delegate.executeAsync(context);
+      } catch (RuntimeException e) {
+        record(state, e);
+        throw e;
+      }
+      return stage.whenComplete(
+          (result, error) ->
+              record(
+                  state,
+                  error instanceof CompletionException && error.getCause() != null
+                      ? error.getCause()
+                      : error));
+    }
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import io.camunda.connector.api.outbound.AsyncOutboundConnectorFunction;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.runtime.core.Keywords;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of outbound connector results, for connectors that are called repeatedly with the
+ * same input, e.g. to look up reference data.
+ *
+ * <p>Caching is opt-in per element: only jobs with a {@link Keywords#RESULT_CACHE_TTL_KEYWORD}
+ * header are cached, for the given duration. Results are keyed by job type, tenant and a SHA-256
+ * hash of the job variables, as activated and before secret replacement, and the custom headers of
+ * the job, so that elements with different result or error expressions never share a result. Only
+ * successful results are cached. When the cache is full, the least recently used result is evicted.
+ *
+ * <p>Jobs with the same key that arrive while the result is being computed wait for that result
+ * instead of calling the connector again. If the call fails, each of them calls the connector on
+ * its own.
+ */
+public class OutboundResultCache {
+
+  /** Callbacks to record metrics of the cache, per job type. */
+  public interface Listener {
+
+    default void onHit(String type) {}
+
+    default void onMiss(String type) {}
+
+    default void onEvicted(String type) {}
+
+    default void onExpired(String type) {}
+  }
+
+  record Key(String type, String tenantId, String variablesHash) {}
+
+  private record Entry(Object result, long expiresAt) {}
+
+  private final int maxSize;
+  private final Listener listener;
+  private final LongSupplier nanoTime;
+  private final Map<Key, Entry> entries;
+  private final Map<Key, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+  public OutboundResultCache(int maxSize, Listener listener) {
+    this(maxSize, listener, System::nanoTime);
+  }
+
+  OutboundResultCache(int maxSize, Listener listener, LongSupplier nanoTime) {
+    this.maxSize = maxSize;
+    this.listener = listener;
+    this.nanoTime = nanoTime;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > OutboundResultCache.this.maxSize) {
+              listener.onEvicted(eldest.getKey().type());
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Wraps the connector function so that its results are cached for jobs that enable caching. The
+   * returned function is asynchronous if and only if the given function is.
+   */
+  public OutboundConnectorFunction decorate(OutboundConnectorFunction function) {
+    if (function instanceof AsyncOutboundConnectorFunction asyncFunction) {
+      return new CachingAsyncFunction(asyncFunction);
+    }
+    return new CachingFunction(function);
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private Entry get(Key key) {
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+      if (entry != null && entry.expiresAt() - nanoTime.getAsLong() <= 0) {
+        entries.remove(key);
+        listener.onExpired(key.type());
+        entry = null;
+      }
+    }
+    if (entry == null) {
+      listener.onMiss(key.type());
+    } else {
+      listener.onHit(key.type());
+    }
+    return entry;
+  }
+
+  private void put(Key key, Object result, Duration ttl) {
+    var entry = new Entry(result, nanoTime.getAsLong() + ttl.toNanos());
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+  }
+
+  private static Duration getTtl(OutboundConnectorContext context) {
+    var header = context.getJobContext().getCustomHeaders().get(Keywords.RESULT_CACHE_TTL_KEYWORD);
+    if (header == null || header.isBlank()) {
+      return null;
+    }
+    try {
+      var ttl = Duration.parse(header);
+      return ttl.isNegative() || ttl.isZero() ? null : ttl;
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException(
+          "Failed to parse result cache TTL header. Expected ISO-8601 duration, e.g. PT5M, got: "
+              + header,
+          e);
+    }
+  }
+
+  /**
+   * @return the key of the job, or {@code null} if the context does not expose the variables of the
+   *     job as activated
+   */
+  static Key key(OutboundConnectorContext context) {
+    if (!(context instanceof JobHandlerContext handlerContext)) {
+      return null;
+    }
+    var job = handlerContext.getActivatedJob();
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      digest.update(job.getVariables().getBytes(StandardCharsets.UTF_8));
+      for (var header : new TreeMap<>(job.getCustomHeaders()).entrySet()) {
+        digest.update((byte) 0);
+        digest.update(header.getKey().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(String.valueOf(header.getValue()).getBytes(StandardCharsets.UTF_8));
+      }
+      return new Key(job.getType(), job.getTenantId(), HexFormat.of().formatHex(digest.digest()));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private class CachingFunction implements OutboundConnectorFunction {
+
+    private final OutboundConnectorFunction delegate;
+
+    CachingFunction(OutboundConnectorFunction delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Object execute(OutboundConnectorContext context) throws Exception {
+      var ttl = getTtl(context);
+      var key = ttl == null ? null : key(context);
+      if (key == null) {
+        return delegate.execute(context);
+      }
+      var cached = get(key);
+      if (cached != null) {
+        return cached.result();
+      }
+      var loader = new CompletableFuture<Object>();
+      var inFlight = loading.putIfAbsent(key, loader);
+      if (inFlight != null) {
+        try {
+          return inFlight.get();
+        } catch (ExecutionException e) {
+          // failures are not shared, call the connector for this job
+          return delegate.execute(context);
+        }
+      }
+      try {
+        var result = delegate.execute(context);
+        put(key, result, ttl);
+        loader.complete(result);
+        return result;
+      } catch (Exception e) {
+        loader.completeExceptionally(e);
+        throw e;
+      } finally {
+        loading.remove(key, loader);
+      }
+    }
+  }
+
+  private class CachingAsyncFunction implements AsyncOutboundConnectorFunction {
+
+    private final AsyncOutboundConnectorFunction delegate;
+
+    CachingAsyncFunction(AsyncOutboundConnectorFunction delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public CompletionStage<Object> executeAsync(OutboundConnectorContext context) {
+      var ttl = getTtl(context);
+      var key = ttl == null ? null : key(context);
+      if (key == null) {
+        return delegate.executeAsync(context);
+      }
+      var cached = get(key);
+      if (cached != null) {
+        return CompletableFuture.completedFuture(cached.result());
+      }
+      var loader = new CompletableFuture<Object>();
+      var inFlight = loading.putIfAbsent(key, loader);
+      if (inFlight != null) {
+        // failures are not shared, call the connector for this job
+        return inFlight.exceptionallyCompose(error -> delegate.executeAsync(context));
+      }
+      CompletionStage<Object> execution;
+      try {
+        execution = delegate.executeAsync(context);
+      } catch (RuntimeException e) {
+        loading.remove(key, loader);
+        loader.completeExceptionally(e);
+        throw e;
+      }
+      execution.whenComplete(
+          (result, error) -> {
+            if (error == null) {
+              put(key, result, ttl);
+            }
+            loading.remove(key, loader);
+            if (error == null) {
+              loader.complete(result);
+            } else {
+              loader.completeExceptionally(error);
+            }
+          });
+      return loader.copy();
+    }
+  }
+}
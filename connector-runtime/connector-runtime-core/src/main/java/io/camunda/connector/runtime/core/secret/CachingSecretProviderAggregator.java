@@ -0,0 +1,183 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.secret;
+
+import io.camunda.connector.api.secret.SecretProvider;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link SecretProviderAggregator} that caches resolved secrets, so that secrets referenced by
+ * many jobs are not fetched from the providers for every job.
+ *
+ * <p>Resolved secrets are kept for the given TTL. Secrets that none of the providers knows are kept
+ * for the negative TTL, so that a missing secret is not queried from every provider again right
+ * away. A TTL of zero disables caching of the respective results. When the cache is full, the least
+ * recently used secret is evicted.
+ */
+public class CachingSecretProviderAggregator extends SecretProviderAggregator {
+
+  /** Callbacks to record metrics of the cache. Secret names are not passed on purpose. */
+  public interface Listener {
+
+    default void onHit() {}
+
+    default void onNegativeHit() {}
+
+    default void onMiss() {}
+
+    default void onEvicted() {}
+
+    default void onExpired() {}
+  }
+
+  private record Entry(String value, long expiresAt) {}
+
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+  private final int maxSize;
+  private final Listener listener;
+  private final LongSupplier nanoTime;
+  private final Map<String, Entry> entries;
+
+  public CachingSecretProviderAggregator(
+      List<SecretProvider> secretProviders,
+      Duration ttl,
+      Duration negativeTtl,
+      int maxSize,
+      Listener listener) {
+    this(secretProviders, ttl, negativeTtl, maxSize, listener, System::nanoTime);
+  }
+
+  CachingSecretProviderAggregator(
+      List<SecretProvider> secretProviders,
+      Duration ttl,
+      Duration negativeTtl,
+      int maxSize,
+      Listener listener,
+      LongSupplier nanoTime) {
+    super(secretProviders);
+    this.ttlNanos = ttl.toNanos();
+    this.negativeTtlNanos = negativeTtl.toNanos();
+    this.maxSize = maxSize;
+    this.listener = listener;
+    this.nanoTime = nanoTime;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > CachingSecretProviderAggregator.this.maxSize) {
+              listener.onEvicted();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  @Override
+  public String getSecret(String secretName) {
+    synchronized (entries) {
+      var entry = lookup(secretName);
+      if (entry != null) {
+        return entry.value();
+      }
+    }
+    listener.onMiss();
+    // resolve outside the lock, lookups of other secrets must not wait for slow providers
+    var value = super.getSecret(secretName);
+    store(secretName, value);
+    return value;
+  }
+
+  @Override
+  public Map<String, String> getSecrets(Set<String> secretNames) {
+    Map<String, String> secrets = new HashMap<>();
+    Set<String> missingNames = new LinkedHashSet<>();
+    synchronized (entries) {
+      for (var secretName : secretNames) {
+        var entry = lookup(secretName);
+        if (entry == null) {
+          missingNames.add(secretName);
+        } else if (entry.value() != null) {
+          secrets.put(secretName, entry.value());
+        }
+      }
+    }
+    if (missingNames.isEmpty()) {
+      return secrets;
+    }
+    missingNames.forEach(secretName -> listener.onMiss());
+    // all missing secrets are resolved at once, outside the lock
+    var resolved = super.getSecrets(missingNames);
+    for (var secretName : missingNames) {
+      var value = resolved.get(secretName);
+      store(secretName, value);
+      if (value != null) {
+        secrets.put(secretName, value);
+      }
+    }
+    return secrets;
+  }
+
+  /** Returns the unexpired entry of the secret, if any. Must be called holding the lock. */
+  private Entry lookup(String secretName) {
+    var entry = entries.get(secretName);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt() - nanoTime.getAsLong() > 0) {
+      if (entry.value() != null) {
+        listener.onHit();
+      } else {
+        listener.onNegativeHit();
+      }
+      return entry;
+    }
+    entries.remove(secretName);
+    listener.onExpired();
+    return null;
+  }
+
+  private void store(String secretName, String value) {
+    var ttl = value != null ? ttlNanos : negativeTtlNanos;
+    if (ttl > 0 && maxSize > 0) {
+      synchronized (entries) {
+        entries.put(secretName, new Entry(value, nanoTime.getAsLong() + ttl));
+      }
+    }
+  }
+
+  /** Removes all cached secrets, e.g. after secrets were rotated. */
+  public void invalidateAll() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+}
@@ -16,13 +16,19 @@
  */
 package io.camunda.connector.runtime.core.secret;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.secret.SecretProvider;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 public class SecretHandler {
 
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
   protected final SecretProvider secretProvider;
 
   protected Function<String, String> secretReplacer;
@@ -32,13 +38,77 @@ public class SecretHandler {
     secretReplacer =
         name ->
             Optional.ofNullable(secretProvider.getSecret(name))
-                .orElseThrow(
-                    () ->
-                        new ConnectorInputException(
-                            String.format("Secret with name '%s' is not available", name), null));
+                .orElseThrow(() -> notAvailable(name));
   }
 
   public String replaceSecrets(String input) {
-    return SecretUtil.replaceSecrets(input, secretReplacer);
+    return createSecretReplacer(input).apply(input);
+  }
+
+  /**
+   * Resolves all secrets referenced in the document at once and returns a function replacing the
+   * placeholders in the document or in parts of it. Secrets referenced in other inputs passed to
+   * the function are resolved one by one.
+   *
+   * @param document the document to resolve the secrets for
+   * @return a function replacing the secret placeholders in its input
+   */
+  public Function<String, String> createSecretReplacer(String document) {
+    return createSecretReplacer(document, UnaryOperator.identity());
+  }
+
+  /**
+   * Like {@link #createSecretReplacer(String)}, for replacing the placeholders in the field names
+   * and string values of a parsed JSON document. Escape sequences in the secret values, e.g. a
+   * literal {@code \n} in a PEM key, are decoded as if the placeholders had been replaced in the
+   * JSON text before parsing. Secret values that are not valid JSON string content are inserted
+   * verbatim.
+   *
+   * @param document the JSON document to resolve the secrets for
+   * @return a function replacing the secret placeholders in a parsed field name or string value
+   */
+  public Function<String, String> createJsonSecretReplacer(String document) {
+    return createSecretReplacer(document, SecretHandler::decodeJsonString);
+  }
+
+  private Function<String, String> createSecretReplacer(
+      String document, UnaryOperator<String> secretDecoder) {
+    var secretNames = SecretUtil.collectSecretNames(document);
+    if (secretNames.isEmpty()) {
+      return input ->
+          SecretUtil.replaceSecrets(input, name -> secretDecoder.apply(secretReplacer.apply(name)));
+    }
+    var secrets = secretProvider.getSecrets(secretNames);
+    Function<String, String> resolvedSecretReplacer =
+        name -> {
+          if (!secretNames.contains(name)) {
+            return secretDecoder.apply(secretReplacer.apply(name));
+          }
+          return secretDecoder.apply(
+              Optional.ofNullable(secrets.get(name)).orElseThrow(() -> notAvailable(name)));
+        };
+    return input -> SecretUtil.replaceSecrets(input, resolvedSecretReplacer);
+  }
+
+  static String decodeJsonString(String value) {
+    if (value.indexOf('\\') < 0) {
+      return value;
+    }
+    try (var parser = JSON_FACTORY.createParser('"' + value + '"')) {
+      if (parser.nextToken() == JsonToken.VALUE_STRING) {
+        var decoded = parser.getText();
+        if (parser.nextToken() == null) {
+          return decoded;
+        }
+      }
+    } catch (IOException e) {
+      // not a valid JSON string, e.g. an unescaped quote
+    }
+    return value;
+  }
+
+  private static ConnectorInputException notAvailable(String name) {
+    return new ConnectorInputException(
+        String.format("Secret with name '%s' is not available", name), null);
   }
 }
@@ -18,7 +18,11 @@ package io.camunda.connector.runtime.core.secret;
 
 import io.camunda.connector.api.secret.SecretProvider;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,6 +62,39 @@ public class SecretProviderAggregator implements SecretProvider {
     return null;
   }
 
+  /**
+   * Resolves the secrets from the given providers, querying each provider once for the secrets the
+   * previous providers could not resolve.
+   *
+   * @param secretNames the names of the secrets
+   * @return the values of the resolved secrets, by name
+   */
+  @Override
+  public Map<String, String> getSecrets(Set<String> secretNames) {
+    Map<String, String> secrets = new HashMap<>();
+    Set<String> missingNames = new LinkedHashSet<>(secretNames);
+    for (SecretProvider secretProvider : secretProviders) {
+      if (missingNames.isEmpty()) {
+        break;
+      }
+      var resolved = secretProvider.getSecrets(Set.copyOf(missingNames));
+      resolved.forEach(
+          (secretName, secret) -> {
+            if (secret != null && missingNames.remove(secretName)) {
+              secrets.put(secretName, secret);
+            }
+          });
+      LOG.debug(
+          "Resolved secrets {} from provider '{}'",
+          resolved.keySet(),
+          secretProvider.getClass().getName());
+    }
+    if (!missingNames.isEmpty()) {
+      LOG.debug("Could not resolve secrets {}", missingNames);
+    }
+    return secrets;
+  }
+
   public List<SecretProvider> getSecretProviders() {
     return Collections.unmodifiableList(secretProviders);
   }
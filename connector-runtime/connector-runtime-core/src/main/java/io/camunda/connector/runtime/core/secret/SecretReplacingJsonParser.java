@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.secret;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.Function;
+
+/**
+ * {@link JsonParser} that replaces secret placeholders in field names and string values while the
+ * document is being read, so that it can be bound to the target type without rewriting the whole
+ * document first. Non-string values are passed through unchanged.
+ *
+ * <p>The replacer is applied to the parsed text. To get the same result as replacing the
+ * placeholders in the JSON text before parsing, it has to decode the secret values as the content
+ * of a JSON string, see {@link SecretHandler#createJsonSecretReplacer(String)}.
+ */
+public class SecretReplacingJsonParser extends JsonParserDelegate {
+
+  private static final String SECRETS_PREFIX = "secrets.";
+
+  private final Function<String, String> secretReplacer;
+
+  // the parser returns the same string instance for repeated reads of the current token
+  private String rawValue;
+  private String replacedValue;
+  private String rawName;
+  private String replacedName;
+
+  /**
+   * @param delegate - parser reading the original document
+   * @param secretReplacer - replaces all secret placeholders in a field name or string value
+   */
+  public SecretReplacingJsonParser(JsonParser delegate, Function<String, String> secretReplacer) {
+    super(delegate);
+    this.secretReplacer = secretReplacer;
+  }
+
+  private boolean isText() {
+    return delegate.hasToken(JsonToken.VALUE_STRING) || delegate.hasToken(JsonToken.FIELD_NAME);
+  }
+
+  private String replace(String raw) {
+    return raw != null && raw.contains(SECRETS_PREFIX) ? secretReplacer.apply(raw) : raw;
+  }
+
+  private String replacedText() throws IOException {
+    var raw = delegate.getText();
+    if (raw != rawValue) {
+      rawValue = raw;
+      replacedValue = replace(raw);
+    }
+    return replacedValue;
+  }
+
+  private String replacedName(String raw) {
+    if (raw != rawName) {
+      rawName = raw;
+      replacedName = replace(raw);
+    }
+    return replacedName;
+  }
+
+  @Override
+  public String getText() throws IOException {
+    return isText() ? replacedText() : delegate.getText();
+  }
+
+  @Override
+  public int getText(Writer writer) throws IOException {
+    if (!isText()) {
+      return delegate.getText(writer);
+    }
+    var text = replacedText();
+    writer.write(text);
+    return text.length();
+  }
+
+  @Override
+  public char[] getTextCharacters() throws IOException {
+    return isText() ? replacedText().toCharArray() : delegate.getTextCharacters();
+  }
+
+  @Override
+  public int getTextLength() throws IOException {
+    return isText() ? replacedText().length() : delegate.getTextLength();
+  }
+
+  @Override
+  public int getTextOffset() throws IOException {
+    return isText() ? 0 : delegate.getTextOffset();
+  }
+
+  @Override
+  public boolean hasTextCharacters() {
+    return !isText() && delegate.hasTextCharacters();
+  }
+
+  @Override
+  public String getValueAsString() throws IOException {
+    return delegate.hasToken(JsonToken.VALUE_STRING) ? replacedText() : delegate.getValueAsString();
+  }
+
+  @Override
+  public String getValueAsString(String defaultValue) throws IOException {
+    return delegate.hasToken(JsonToken.VALUE_STRING)
+        ? replacedText()
+        : delegate.getValueAsString(defaultValue);
+  }
+
+  @Override
+  public String nextTextValue() throws IOException {
+    return nextToken() == JsonToken.VALUE_STRING ? replacedText() : null;
+  }
+
+  @Override
+  public String currentName() throws IOException {
+    return replacedName(delegate.currentName());
+  }
+
+  @Override
+  @Deprecated
+  public String getCurrentName() throws IOException {
+    return currentName();
+  }
+
+  @Override
+  public String nextFieldName() throws IOException {
+    return nextToken() == JsonToken.FIELD_NAME ? currentName() : null;
+  }
+
+  @Override
+  public boolean nextFieldName(SerializableString name) throws IOException {
+    return nextToken() == JsonToken.FIELD_NAME && name.getValue().equals(currentName());
+  }
+}
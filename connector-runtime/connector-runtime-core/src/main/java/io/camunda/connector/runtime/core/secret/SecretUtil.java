@@ -16,67 +16,171 @@
  */
 package io.camunda.connector.runtime.core.secret;
 
-import io.camunda.connector.runtime.core.ConnectorUtil;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-/** Utility class to replace secrets in strings. */
+/**
+ * Utility class to replace secrets in strings.
+ *
+ * <p>Two placeholder syntaxes are supported: {@code {{secrets.NAME}}}, where the name may contain
+ * any non-whitespace characters, and {@code secrets.NAME}, where the name consists of alphanumeric
+ * segments separated by one of {@code /._-}. The input is scanned once, and each distinct secret is
+ * resolved only once per input.
+ */
 public class SecretUtil {
 
-  private static final Pattern SECRET_PATTERN_SECRETS =
-      Pattern.compile("secrets\\.(?<secret>([a-zA-Z0-9]+[\\/._-])*[a-zA-Z0-9]+)");
-
-  private static final Pattern SECRET_PATTERN_PARENTHESES =
-      Pattern.compile("\\{\\{\\s*secrets\\.(?<secret>\\S+?\\s*)}}");
+  private static final String SECRETS_PREFIX = "secrets.";
 
   public static String replaceSecrets(String input, Function<String, String> secretReplacer) {
     if (input == null) {
       throw new IllegalStateException("input cant be null.");
     }
-    input = replaceSecretsWithParentheses(input, secretReplacer);
-    input = replaceSecretsWithoutParentheses(input, secretReplacer);
-    return input;
+    if (!input.contains(SECRETS_PREFIX)) {
+      return input;
+    }
+    Map<String, String> resolvedSecrets = new HashMap<>();
+    StringBuilder output = new StringBuilder(input.length());
+    int lastIndex =
+        scan(
+            input,
+            (secretName, placeholderStart, placeholderEnd, lastEnd) -> {
+              if (!resolvedSecrets.containsKey(secretName)) {
+                resolvedSecrets.put(secretName, secretReplacer.apply(secretName));
+              }
+              var secretValue = resolvedSecrets.get(secretName);
+              output.append(input, lastEnd, placeholderStart);
+              // placeholders of unknown secrets are kept as they are
+              output.append(
+                  secretValue != null
+                      ? secretValue
+                      : input.substring(placeholderStart, placeholderEnd));
+            });
+    output.append(input, lastIndex, input.length());
+    return output.toString();
+  }
+
+  /**
+   * Returns the names of all secrets referenced in the input, in order of their first occurrence.
+   * Allows resolving all secrets of an input at once, see {@link
+   * io.camunda.connector.api.secret.SecretProvider#getSecrets(Set)}.
+   */
+  public static Set<String> collectSecretNames(String input) {
+    if (input == null) {
+      throw new IllegalStateException("input cant be null.");
+    }
+    Set<String> secretNames = new LinkedHashSet<>();
+    if (input.contains(SECRETS_PREFIX)) {
+      scan(
+          input,
+          (secretName, placeholderStart, placeholderEnd, lastEnd) -> secretNames.add(secretName));
+    }
+    return secretNames;
+  }
+
+  private interface PlaceholderConsumer {
+    void accept(String secretName, int placeholderStart, int placeholderEnd, int lastEnd);
+  }
+
+  /**
+   * Passes every placeholder of the input to the consumer, together with the end of the previous
+   * placeholder. Returns the end of the last placeholder.
+   */
+  private static int scan(String input, PlaceholderConsumer consumer) {
+    int lastIndex = 0;
+    int prefixIndex = input.indexOf(SECRETS_PREFIX);
+    while (prefixIndex >= 0) {
+      int nameStart = prefixIndex + SECRETS_PREFIX.length();
+      int placeholderStart = findParenthesesStart(input, prefixIndex, lastIndex);
+      int nameEnd;
+      int placeholderEnd;
+      if (placeholderStart >= 0 && (nameEnd = findParenthesesNameEnd(input, nameStart)) >= 0) {
+        placeholderEnd = input.indexOf("}}", nameEnd) + 2;
+      } else {
+        placeholderStart = prefixIndex;
+        placeholderEnd = nameEnd = findNameEnd(input, nameStart);
+      }
+
+      if (nameEnd > nameStart) {
+        consumer.accept(
+            input.substring(nameStart, nameEnd), placeholderStart, placeholderEnd, lastIndex);
+        lastIndex = placeholderEnd;
+        prefixIndex = input.indexOf(SECRETS_PREFIX, placeholderEnd);
+      } else {
+        prefixIndex = input.indexOf(SECRETS_PREFIX, nameStart);
+      }
+    }
+    return lastIndex;
   }
 
-  private static String replaceSecretsWithParentheses(
-      String input, Function<String, String> secretReplacer) {
-    var secretVariableNameWithParenthesesMatcher = SECRET_PATTERN_PARENTHESES.matcher(input);
-    while (secretVariableNameWithParenthesesMatcher.find()) {
-      input =
-          ConnectorUtil.replaceTokens(
-              input,
-              SECRET_PATTERN_PARENTHESES,
-              matcher -> resolveSecretValue(secretReplacer, matcher));
+  /**
+   * Returns the start of the {@code {{} preceding the secrets prefix, allowing whitespace in
+   * between, or -1 if there is none after {@code lowerBound}.
+   */
+  private static int findParenthesesStart(String input, int prefixIndex, int lowerBound) {
+    int index = prefixIndex;
+    while (index > lowerBound && isWhitespace(input.charAt(index - 1))) {
+      index--;
     }
-    return input;
+    return index - 2 >= lowerBound && input.startsWith("{{", index - 2) ? index - 2 : -1;
   }
 
-  private static String replaceSecretsWithoutParentheses(
-      String input, Function<String, String> secretReplacer) {
-    var secretVariableNameWithParenthesesMatcher = SECRET_PATTERN_SECRETS.matcher(input);
-    while (secretVariableNameWithParenthesesMatcher.find()) {
-      input =
-          ConnectorUtil.replaceTokens(
-              input,
-              SECRET_PATTERN_SECRETS,
-              matcher -> resolveSecretValue(secretReplacer, matcher));
+  /**
+   * Returns the end of the shortest non-whitespace name that is followed by optional whitespace and
+   * {@code }}}, or -1 if the placeholder is not closed.
+   */
+  private static int findParenthesesNameEnd(String input, int nameStart) {
+    int index = nameStart;
+    while (index < input.length() && !isWhitespace(input.charAt(index))) {
+      index++;
+      int closingIndex = index;
+      while (closingIndex < input.length() && isWhitespace(input.charAt(closingIndex))) {
+        closingIndex++;
+      }
+      if (input.startsWith("}}", closingIndex)) {
+        return index;
+      }
     }
-    return input;
+    return -1;
   }
 
-  private static String resolveSecretValue(
-      Function<String, String> secretReplacer, Matcher matcher) {
-    var secretName = matcher.group("secret").trim();
-    if (!secretName.isBlank() && !secretName.isEmpty()) {
-      var result = secretReplacer.apply(secretName);
-      if (result != null) {
-        return result;
+  /**
+   * Returns the end of the longest name made of alphanumeric segments separated by a single {@code
+   * /._-}, which is {@code nameStart} if no name starts there.
+   */
+  private static int findNameEnd(String input, int nameStart) {
+    int nameEnd = nameStart;
+    int index = nameStart;
+    while (index < input.length()) {
+      int segmentStart = index;
+      while (index < input.length() && isAlphanumeric(input.charAt(index))) {
+        index++;
+      }
+      if (index == segmentStart) {
+        break;
+      }
+      nameEnd = index;
+      if (index < input.length() && isSeparator(input.charAt(index))) {
+        index++;
       } else {
-        return matcher.group();
+        break;
       }
-    } else {
-      return null;
     }
+    return nameEnd;
+  }
+
+  // same characters as \s in regular expressions
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  private static boolean isAlphanumeric(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+  }
+
+  private static boolean isSeparator(char c) {
+    return c == '/' || c == '.' || c == '_' || c == '-';
   }
 }
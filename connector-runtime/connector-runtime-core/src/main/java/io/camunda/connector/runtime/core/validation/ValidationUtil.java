@@ -20,14 +20,28 @@ import io.camunda.connector.api.validation.ValidationProvider;
 import java.util.ServiceLoader;
 
 public class ValidationUtil {
+
+  // building a validation provider is expensive, contexts without a provider share this one
+  private static volatile ValidationProvider defaultValidationProvider;
+
+  /**
+   * Discovers the {@link ValidationProvider} bound via SPI. The provider is discovered once and
+   * shared by all callers.
+   */
   public static ValidationProvider discoverDefaultValidationProviderImplementation() {
-    return ServiceLoader.load(ValidationProvider.class)
-        .findFirst()
-        .orElseThrow(
-            () ->
-                new IllegalStateException(
-                    "Please bind an implementation to "
-                        + ValidationProvider.class.getName()
-                        + " via SPI"));
+    var provider = defaultValidationProvider;
+    if (provider == null) {
+      provider =
+          ServiceLoader.load(ValidationProvider.class)
+              .findFirst()
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          "Please bind an implementation to "
+                              + ValidationProvider.class.getName()
+                              + " via SPI"));
+      defaultValidationProvider = provider;
+    }
+    return provider;
   }
 }
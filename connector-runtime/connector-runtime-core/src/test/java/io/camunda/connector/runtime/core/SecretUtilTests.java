@@ -18,12 +18,19 @@ package io.camunda.connector.runtime.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import io.camunda.connector.runtime.core.secret.SecretUtil;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -81,4 +88,89 @@ public class SecretUtilTests {
     var result = SecretUtil.replaceSecrets(input, secretReplacer);
     assertThat(result).isEqualTo(output);
   }
+
+  @ParameterizedTest
+  @CsvSource(
+      value = {
+        "no secrets here|no secrets here",
+        "{{ secrets.KEY1 }}|VALUE1",
+        "{{secrets.KEY1}}}|VALUE1}",
+        "{{{secrets.KEY1}}|{VALUE1",
+        "{{secrets.KEY1 x}}|{{VALUE1 x}}",
+        "{{secrets.}}|{{secrets.}}",
+        "secrets.KEY1{{secrets.KEY2}}|VALUE1VALUE2",
+        "mysecrets.KEY1.|myVALUE1.",
+        "secrets.UNKNOWN and {{secrets.UNKNOWN}}|secrets.UNKNOWN and {{secrets.UNKNOWN}}",
+      },
+      delimiter = '|')
+  void testSecretReplacementEdgeCases(String input, String output) {
+    Function<String, String> secretReplacer = (name) -> secrets.get(name);
+    var result = SecretUtil.replaceSecrets(input, secretReplacer);
+    assertThat(result).isEqualTo(output);
+  }
+
+  @Test
+  void shouldResolveEachSecretOnce() {
+    Function<String, String> secretReplacer = mock(Function.class);
+    when(secretReplacer.apply("KEY1")).thenReturn("VALUE1");
+    var input = "secrets.KEY1 {{secrets.KEY1}} ".repeat(500);
+
+    var result = SecretUtil.replaceSecrets(input, secretReplacer);
+
+    assertThat(result).isEqualTo("VALUE1 VALUE1 ".repeat(500));
+    verify(secretReplacer, times(1)).apply("KEY1");
+  }
+
+  @Test
+  void shouldNotResolveSecretsWithoutMarker() {
+    Function<String, String> secretReplacer = mock(Function.class);
+    var input = "{\"field1\": \"secret\", \"field2\": \"{{ secret }}\"}";
+
+    var result = SecretUtil.replaceSecrets(input, secretReplacer);
+
+    assertThat(result).isSameAs(input);
+    verifyNoInteractions(secretReplacer);
+  }
+
+  @Test
+  void shouldCollectSecretNamesInOrder() {
+    var input =
+        "{\"a\": \"{{ secrets.KEY2 }}\", \"b\": \"secrets.KEY1 secrets.KEY2\", \"c\": \"secrets.\"}";
+
+    var secretNames = SecretUtil.collectSecretNames(input);
+
+    assertThat(secretNames).containsExactly("KEY2", "KEY1");
+  }
+
+  @Test
+  void shouldReplaceLikeRegularExpressions() {
+    // reference implementation: both placeholder patterns applied one after the other
+    var parenthesesPattern = Pattern.compile("\\{\\{\\s*secrets\\.(?<secret>\\S+?\\s*)}}");
+    var secretsPattern =
+        Pattern.compile("secrets\\.(?<secret>([a-zA-Z0-9]+[\\/._-])*[a-zA-Z0-9]+)");
+    // values are wrapped in brackets, so they cannot extend a preceding placeholder
+    Function<String, String> secretReplacer = name -> "<" + name.length() + ">";
+    Function<Matcher, String> converter =
+        matcher -> secretReplacer.apply(matcher.group("secret").trim());
+
+    var fragments =
+        List.of(
+            "secrets.", "{{", "}}", " ", "\t", "a", "B", "0", ".", "/", "_", "-", "{", "}", "?");
+    var random = new Random(42);
+    for (int i = 0; i < 5000; i++) {
+      var input = new StringBuilder();
+      for (int j = random.nextInt(20); j >= 0; j--) {
+        input.append(fragments.get(random.nextInt(fragments.size())));
+      }
+      var expected =
+          ConnectorUtil.replaceTokens(
+              ConnectorUtil.replaceTokens(input.toString(), parenthesesPattern, converter),
+              secretsPattern,
+              converter);
+
+      assertThat(SecretUtil.replaceSecrets(input.toString(), secretReplacer))
+          .as("replacing secrets in '%s'", input)
+          .isEqualTo(expected);
+    }
+  }
 }
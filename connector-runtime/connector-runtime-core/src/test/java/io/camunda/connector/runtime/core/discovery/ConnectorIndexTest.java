@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.discovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.runtime.core.inbound.AnnotatedExecutable;
+import io.camunda.connector.runtime.core.inbound.NotAnnotatedExecutable;
+import io.camunda.connector.runtime.core.outbound.AnnotatedFunction;
+import io.camunda.connector.runtime.core.outbound.NotAnnotatedFunction;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConnectorIndexTest {
+
+  @Test
+  public void shouldReadIndexWrittenAtBuildTime() {
+    // given the index generated for the annotated test connectors
+    // when
+    var index = ConnectorIndex.load();
+
+    // then
+    assertThat(index.getOutboundConfiguration(AnnotatedFunction.class))
+        .hasValueSatisfying(
+            configuration -> {
+              assertThat(configuration.name()).isEqualTo("ANNOTATED");
+              assertThat(configuration.type()).isEqualTo("io.camunda:annotated");
+              assertThat(configuration.inputVariables()).containsExactly("a", "b");
+              assertThat(configuration.connectorClass()).isEqualTo(AnnotatedFunction.class);
+            });
+    assertThat(index.getInboundConfiguration(AnnotatedExecutable.class))
+        .hasValueSatisfying(
+            configuration -> {
+              assertThat(configuration.name()).isEqualTo("ANNOTATED");
+              assertThat(configuration.type()).isEqualTo("io.camunda:annotated");
+            });
+  }
+
+  @Test
+  public void shouldNotContainClassesWithoutAnnotation() {
+    // when
+    var index = ConnectorIndex.load();
+
+    // then
+    assertThat(index.getOutboundConfiguration(NotAnnotatedFunction.class)).isEmpty();
+    assertThat(index.getInboundConfiguration(NotAnnotatedExecutable.class)).isEmpty();
+  }
+
+  @Test
+  public void shouldSkipMalformedLines(@TempDir Path dir) throws Exception {
+    // given
+    var indexFile = dir.resolve("META-INF/camunda/connectors.index");
+    Files.createDirectories(indexFile.getParent());
+    Files.writeString(
+        indexFile,
+        String.join(
+            "\n",
+            "# comment",
+            "outbound\t" + AnnotatedFunction.class.getName() + "\tio.camunda:other",
+            "inbound\t" + AnnotatedExecutable.class.getName() + "\tio.camunda:other\tOTHER",
+            ""));
+
+    // when
+    ConnectorIndex index;
+    try (var classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null)) {
+      index = ConnectorIndex.load(classLoader);
+    }
+
+    // then
+    assertThat(index.getOutboundConfiguration(AnnotatedFunction.class)).isEmpty();
+    assertThat(index.getInboundConfiguration(AnnotatedExecutable.class))
+        .hasValueSatisfying(
+            configuration -> assertThat(configuration.type()).isEqualTo("io.camunda:other"));
+  }
+}
@@ -17,22 +17,32 @@
 package io.camunda.connector.runtime.core.inbound.correlation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
 import io.camunda.connector.runtime.core.inbound.correlation.CorrelationErrorData.CorrelationErrorReason;
+import io.camunda.connector.runtime.core.inbound.result.MessageCorrelationResult;
 import io.camunda.connector.runtime.core.inbound.result.MessageStartCorrelationResult;
 import io.camunda.connector.runtime.core.inbound.result.ProcessInstance;
 import io.camunda.connector.runtime.core.inbound.result.StartEventCorrelationResult;
 import io.camunda.connector.runtime.core.util.command.CreateCommandDummy;
 import io.camunda.connector.runtime.core.util.command.PublishMessageCommandDummy;
+import io.camunda.connector.runtime.core.util.response.PublishMessageResponseDummy;
 import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.impl.ZeebeClientFutureImpl;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
@@ -563,4 +573,92 @@ public class InboundCorrelationHandlerTest {
       verify(dummyCommand).messageId("providedIdValue");
     }
   }
+
+  @Nested
+  class AsyncCorrelation {
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private ZeebeClientFutureImpl pendingPublish() {
+      var future = new ZeebeClientFutureImpl();
+      var dummyCommand = spy(new PublishMessageCommandDummy());
+      doReturn(future).when(dummyCommand).send();
+      when(zeebeClient.newPublishMessageCommand()).thenReturn(dummyCommand);
+      return future;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void message_shouldCompleteOnceZeebeResponded() {
+      // given
+      var point = new MessageCorrelationPoint("msg1", "=correlationKey", null);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      var future = pendingPublish();
+
+      // when
+      var stage = handler.correlateAsync(definition, Map.of("correlationKey", "key"));
+
+      // then
+      assertThat(stage.toCompletableFuture()).isNotDone();
+      future.complete(new PublishMessageResponseDummy());
+      var result = stage.toCompletableFuture().join();
+      assertThat(result).isInstanceOf(MessageCorrelationResult.class);
+      assertThat(result.isActivated()).isTrue();
+    }
+
+    @Test
+    void message_shouldFailWithConnectorException_WhenZeebeFails() {
+      // given
+      var point = new MessageCorrelationPoint("msg1", "=correlationKey", null);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      pendingPublish().completeExceptionally(new StatusRuntimeException(Status.UNAVAILABLE));
+
+      // when
+      var stage = handler.correlateAsync(definition, Map.of("correlationKey", "key"));
+
+      // then
+      assertThatThrownBy(() -> stage.toCompletableFuture().join())
+          .hasCauseInstanceOf(ConnectorException.class)
+          .hasRootCauseInstanceOf(StatusRuntimeException.class);
+      assertThatThrownBy(() -> handler.correlate(definition, Map.of("correlationKey", "key")))
+          .isInstanceOf(ConnectorException.class)
+          .hasCauseInstanceOf(ClientStatusException.class);
+    }
+
+    @Test
+    void messageStart_shouldReportRejection_WhenZeebeRejects() {
+      // given
+      var point = new MessageStartEventCorrelationPoint("test", "", "", "1", 1, 0);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      pendingPublish().completeExceptionally(new StatusRuntimeException(Status.ALREADY_EXISTS));
+
+      // when
+      var result = handler.correlateAsync(definition, Map.of()).toCompletableFuture().join();
+
+      // then
+      assertThat(result.isActivated()).isFalse();
+      assertThat(result.getErrorData())
+          .map(error -> ((CorrelationErrorData) error).reason())
+          .contains(CorrelationErrorReason.FAULT_ZEEBE_CLIENT_STATUS);
+    }
+
+    @Test
+    void shouldFailStage_WhenActivationConditionCannotBeEvaluated() {
+      // given
+      var point = new StartEventCorrelationPoint("process1", 0, 0);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      when(definition.activationCondition()).thenReturn("=testKey=");
+
+      // when
+      var stage = handler.correlateAsync(definition, Map.of("testKey", "testValue"));
+
+      // then
+      assertThatThrownBy(() -> stage.toCompletableFuture().join())
+          .hasCauseInstanceOf(ConnectorInputException.class);
+      verifyNoMoreInteractions(zeebeClient);
+    }
+  }
 }
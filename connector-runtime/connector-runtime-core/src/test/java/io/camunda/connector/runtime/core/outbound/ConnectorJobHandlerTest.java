@@ -32,15 +32,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.outbound.AsyncOutboundConnectorFunction;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.runtime.core.Keywords;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1.FailJobCommandStep2;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -479,6 +487,142 @@ class ConnectorJobHandlerTest {
     }
   }
 
+  @Nested
+  class AsyncExecutionTests {
+
+    private ConnectorJobHandler newAsyncConnectorJobHandler(
+        Function<OutboundConnectorContext, CompletionStage<Object>> call) {
+      // handle results on the completing thread to keep the tests deterministic
+      return newAsyncConnectorJobHandler(
+          call, ConnectorJobHandlerOptions.builder().asyncResultExecutor(Runnable::run).build());
+    }
+
+    private ConnectorJobHandler newAsyncConnectorJobHandler(
+        Function<OutboundConnectorContext, CompletionStage<Object>> call,
+        ConnectorJobHandlerOptions options) {
+      return new ConnectorJobHandler(
+          (AsyncOutboundConnectorFunction) call::apply, null, e -> {}, null, options);
+    }
+
+    @Test
+    void shouldCompleteJobWhenStageCompletes() {
+      // given
+      var stage = new CompletableFuture<Object>();
+      var jobHandler = newAsyncConnectorJobHandler(context -> stage);
+      var job = JobBuilder.create().withResultVariableHeader("result");
+
+      // when
+      job.execute(jobHandler);
+
+      // then
+      job.verifyNoCommandSent();
+      stage.complete(Map.of("hello", "world"));
+      var result = job.captureResult(true, false);
+      assertThat(result.getVariables()).isEqualTo(Map.of("result", Map.of("hello", "world")));
+    }
+
+    @Test
+    void shouldHandleResultOnResultExecutor() {
+      // given
+      var executedTasks = new AtomicInteger();
+      var stage = new CompletableFuture<Object>();
+      var jobHandler =
+          newAsyncConnectorJobHandler(
+              context -> stage,
+              ConnectorJobHandlerOptions.builder()
+                  .asyncResultExecutor(
+                      task -> {
+                        executedTasks.incrementAndGet();
+                        task.run();
+                      })
+                  .build());
+      var job = JobBuilder.create().withResultVariableHeader("result");
+      job.execute(jobHandler);
+
+      // when
+      stage.complete(Map.of("hello", "world"));
+
+      // then
+      assertThat(executedTasks).hasValue(1);
+      job.captureResult(true, false);
+    }
+
+    @Test
+    void shouldLimitJobsInFlight() throws Exception {
+      // given
+      var firstStage = new CompletableFuture<Object>();
+      var jobHandler =
+          newAsyncConnectorJobHandler(
+              context -> firstStage.isDone() ? new CompletableFuture<>() : firstStage,
+              ConnectorJobHandlerOptions.builder()
+                  .asyncResultExecutor(Runnable::run)
+                  .maxAsyncJobsInFlight(1)
+                  .build());
+      var firstJob = JobBuilder.create().withResultVariableHeader("result");
+      firstJob.execute(jobHandler);
+
+      // when
+      var secondJob = CompletableFuture.runAsync(() -> JobBuilder.create().execute(jobHandler));
+
+      // then
+      Thread.sleep(200);
+      assertThat(secondJob).isNotDone();
+      firstStage.complete(Map.of("hello", "world"));
+      secondJob.get(5, TimeUnit.SECONDS);
+      firstJob.captureResult(true, false);
+    }
+
+    @Test
+    void shouldFailJobWhenStageCompletesExceptionally() {
+      // given
+      var jobHandler =
+          newAsyncConnectorJobHandler(
+              context -> CompletableFuture.failedFuture(new IllegalStateException("expected")));
+
+      // when
+      var result = JobBuilder.create().withRetries(3).executeAndCaptureResult(jobHandler, false);
+
+      // then
+      assertThat(result.getErrorMessage()).isEqualTo("expected");
+    }
+
+    @Test
+    void shouldFailJobWhenCallThrowsException() {
+      // given
+      var jobHandler =
+          newAsyncConnectorJobHandler(
+              context -> {
+                throw new IllegalStateException("expected");
+              });
+
+      // when
+      var result = JobBuilder.create().withRetries(3).executeAndCaptureResult(jobHandler, false);
+
+      // then
+      assertThat(result.getErrorMessage()).isEqualTo("expected");
+    }
+
+    @Test
+    void shouldThrowBpmnErrorWhenStageCompletes() {
+      // given
+      var jobHandler =
+          newAsyncConnectorJobHandler(
+              context -> CompletableFuture.completedFuture(Map.of("code", "1013")));
+      var errorExpression =
+          "if response.code = \"1013\" then bpmnError(\"1013\", \"failed\") else null";
+
+      // when
+      var result =
+          JobBuilder.create()
+              .withErrorExpressionHeader(errorExpression)
+              .executeAndCaptureResult(jobHandler, false, true);
+
+      // then
+      assertThat(result.getErrorCode()).isEqualTo("1013");
+      assertThat(result.getErrorMessage()).isEqualTo("failed");
+    }
+  }
+
   @Nested
   class RetryBackoffTests {
 
@@ -593,6 +737,94 @@ class ConnectorJobHandlerTest {
       verify(secondStepMock, times(0)).retryBackoff(any()); // not set
       verify(secondStepMock).send();
     }
+
+    @Test
+    void shouldKeepRetriesWhenCircuitBreakerIsOpen() {
+      // given
+      int initialRetries = 3;
+      var jobBuilder =
+          JobBuilder.create()
+              .useJobClient(jobClient)
+              .withRetries(initialRetries)
+              .withHeaders(Map.of(Keywords.RETRY_BACKOFF_KEYWORD, "PT1M"));
+      var jobHandler =
+          newConnectorJobHandler(
+              context -> {
+                throw new CircuitBreakerOpenException("test", "", Duration.ofSeconds(5));
+              });
+
+      // when
+      jobBuilder.execute(jobHandler);
+
+      // then
+      verify(firstStepMock).retries(initialRetries);
+      verify(secondStepMock).retryBackoff(Duration.ofSeconds(5));
+      verify(secondStepMock).send();
+    }
+  }
+
+  @Nested
+  class PhaseTests {
+
+    @Test
+    void shouldReportPhasesOfJob() {
+      // given
+      var phases = new ArrayList<JobPhase>();
+      var jobHandler =
+          new ConnectorJobHandler(
+              context -> Map.of("hello", "world"),
+              name -> null,
+              e -> {},
+              null,
+              ConnectorJobHandlerOptions.builder()
+                  .phaseListener(
+                      (job, phase, durationNanos) -> {
+                        assertThat(durationNanos).isNotNegative();
+                        phases.add(phase);
+                      })
+                  .build());
+
+      // when
+      JobBuilder.create()
+          .withHeaders(
+              Map.of(
+                  Keywords.RESULT_EXPRESSION_KEYWORD,
+                  "{ processedOutput: response.hello }",
+                  Keywords.ERROR_EXPRESSION_KEYWORD,
+                  "if false then bpmnError(\"1\", \"\") else null"))
+          .executeAndCaptureResult(jobHandler);
+
+      // then
+      assertThat(phases)
+          .containsExactly(
+              JobPhase.EXECUTION,
+              JobPhase.RESULT_EXPRESSION,
+              JobPhase.ERROR_EXPRESSION,
+              JobPhase.COMMAND_SEND);
+    }
+
+    @Test
+    void shouldNotReportExpressionPhasesWithoutHeaders() {
+      // given
+      var phases = new ArrayList<JobPhase>();
+      var jobHandler =
+          new ConnectorJobHandler(
+              context -> {
+                throw new RuntimeException("oops");
+              },
+              name -> null,
+              e -> {},
+              null,
+              ConnectorJobHandlerOptions.builder()
+                  .phaseListener((job, phase, durationNanos) -> phases.add(phase))
+                  .build());
+
+      // when
+      JobBuilder.create().executeAndCaptureResult(jobHandler, false);
+
+      // then
+      assertThat(phases).containsExactly(JobPhase.EXECUTION, JobPhase.COMMAND_SEND);
+    }
   }
 
   @Nested
@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.connector.runtime.core.Keywords;
@@ -117,6 +118,10 @@ class JobBuilder {
       // when
       connectorJobHandler.handle(jobClient, job);
 
+      return captureResult(expectComplete, expectBpmnError);
+    }
+
+    public JobResult captureResult(boolean expectComplete, boolean expectBpmnError) {
       if (expectComplete) {
         var variablesCaptor = ArgumentCaptor.forClass(Map.class);
         // then
@@ -143,6 +148,10 @@ class JobBuilder {
     public void execute(ConnectorJobHandler connectorJobHandler) {
       connectorJobHandler.handle(jobClient, job);
     }
+
+    public void verifyNoCommandSent() {
+      verifyNoInteractions(completeCommand, failCommand, throwCommand);
+    }
   }
 
   public static class JobResult {
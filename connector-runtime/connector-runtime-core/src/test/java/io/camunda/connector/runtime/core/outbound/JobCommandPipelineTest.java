@@ -0,0 +1,233 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline.Command;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.impl.ZeebeClientFutureImpl;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JobCommandPipelineTest {
+
+  private static final String TYPE = "io.camunda:test:1";
+
+  private final JobCommandPipeline.Listener listener = mock(JobCommandPipeline.Listener.class);
+  private final ActivatedJob job = mock(ActivatedJob.class);
+  private JobCommandPipeline pipeline;
+
+  @BeforeEach
+  void setUp() {
+    when(job.getType()).thenReturn(TYPE);
+    pipeline = new JobCommandPipeline(1, 10, 2, Duration.ofMillis(1), listener);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pipeline.close();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ZeebeClientFutureImpl completed() {
+    var future = new ZeebeClientFutureImpl<>();
+    future.complete(null);
+    return future;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ZeebeClientFutureImpl failed(Status status) {
+    var future = new ZeebeClientFutureImpl<>();
+    future.completeExceptionally(new ClientStatusException(status, null));
+    return future;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSendCommandAndReleaseSlot() {
+    // given
+    FinalCommandStep<Void> step = mock(FinalCommandStep.class);
+    when(step.send()).thenReturn(completed());
+
+    // when
+    var result = pipeline.send(job, Command.COMPLETE, step);
+
+    // then
+    assertThat(result).isCompleted();
+    assertThat(pipeline.availableSlots()).isEqualTo(1);
+    verify(listener).onSent(TYPE, Command.COMPLETE);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldRetryTransientGatewayErrors() {
+    // given
+    FinalCommandStep<Void> step = mock(FinalCommandStep.class);
+    when(step.send()).thenReturn(failed(Status.UNAVAILABLE), completed());
+
+    // when
+    var result = pipeline.send(job, Command.FAIL, step).toCompletableFuture();
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ofSeconds(5));
+    verify(step, times(2)).send();
+    verify(listener).onRetried(eq(TYPE), eq(Command.FAIL), any());
+    verify(listener).onSent(TYPE, Command.FAIL);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldGiveUpAfterMaxRetries() {
+    // given
+    FinalCommandStep<Void> step = mock(FinalCommandStep.class);
+    when(step.send()).thenReturn(failed(Status.RESOURCE_EXHAUSTED));
+
+    // when
+    var result = pipeline.send(job, Command.COMPLETE, step).toCompletableFuture();
+
+    // then
+    assertThat(result).failsWithin(Duration.ofSeconds(5));
+    verify(step, times(3)).send();
+    verify(listener, timeout(1000)).onFailed(eq(TYPE), eq(Command.COMPLETE), any());
+    assertThat(pipeline.availableSlots()).isEqualTo(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldNotRetryOtherErrors() {
+    // given
+    FinalCommandStep<Void> step = mock(FinalCommandStep.class);
+    when(step.send()).thenReturn(failed(Status.NOT_FOUND));
+
+    // when
+    var result = pipeline.send(job, Command.THROW_ERROR, step);
+
+    // then
+    assertThat(result).isCompletedExceptionally();
+    verify(step).send();
+    verify(listener).onFailed(eq(TYPE), eq(Command.THROW_ERROR), any());
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void shouldQueueWithoutBlockingWhenMaxInFlightIsReached() {
+    // given
+    var pending = new ZeebeClientFutureImpl<>();
+    FinalCommandStep<Void> first = mock(FinalCommandStep.class);
+    when(first.send()).thenReturn((ZeebeClientFutureImpl) pending);
+    FinalCommandStep<Void> second = mock(FinalCommandStep.class);
+    when(second.send()).thenReturn(completed());
+    pipeline.send(job, Command.COMPLETE, first);
+
+    // when
+    var secondResult = pipeline.send(job, Command.COMPLETE, second);
+
+    // then
+    assertThat(secondResult).isNotDone();
+    assertThat(pipeline.queuedCommands()).isEqualTo(1);
+    verify(second, never()).send();
+
+    pending.complete(null);
+
+    assertThat(secondResult).isCompleted();
+    assertThat(pipeline.queuedCommands()).isZero();
+    assertThat(pipeline.availableSlots()).isEqualTo(1);
+    verify(second).send();
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void shouldRejectCommandsWhenQueueIsFull() {
+    // given
+    pipeline.close();
+    pipeline = new JobCommandPipeline(1, 1, 0, Duration.ofMillis(1), listener);
+    FinalCommandStep<Void> first = mock(FinalCommandStep.class);
+    when(first.send()).thenReturn((ZeebeClientFutureImpl) new ZeebeClientFutureImpl<>());
+    FinalCommandStep<Void> second = mock(FinalCommandStep.class);
+    FinalCommandStep<Void> third = mock(FinalCommandStep.class);
+    pipeline.send(job, Command.COMPLETE, first);
+    var secondResult = pipeline.send(job, Command.COMPLETE, second);
+
+    // when
+    var thirdResult = pipeline.send(job, Command.FAIL, third);
+
+    // then
+    assertThat(secondResult).isNotDone();
+    assertThat(thirdResult)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(RejectedExecutionException.class);
+    assertThat(pipeline.queuedCommands()).isEqualTo(1);
+    verify(third, never()).send();
+    verify(listener).onRejected(TYPE, Command.FAIL);
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void shouldFailQueuedCommandsOnClose() {
+    // given
+    FinalCommandStep<Void> first = mock(FinalCommandStep.class);
+    when(first.send()).thenReturn((ZeebeClientFutureImpl) new ZeebeClientFutureImpl<>());
+    FinalCommandStep<Void> second = mock(FinalCommandStep.class);
+    pipeline.send(job, Command.COMPLETE, first);
+    var secondResult = pipeline.send(job, Command.FAIL, second);
+
+    // when
+    pipeline.close();
+
+    // then
+    assertThat(secondResult).isCompletedExceptionally();
+    verify(second, never()).send();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSendQueuedCommandsCompletingSynchronously() {
+    // given
+    pipeline.close();
+    pipeline = new JobCommandPipeline(1, 10, 0, Duration.ofMillis(1), listener);
+    FinalCommandStep<Void> step = mock(FinalCommandStep.class);
+    when(step.send()).thenReturn(completed());
+
+    // when
+    var results =
+        IntStream.range(0, 10_000)
+            .mapToObj(i -> pipeline.send(job, Command.COMPLETE, step))
+            .toList();
+
+    // then
+    assertThat(results).allSatisfy(result -> assertThat(result).isCompleted());
+    verify(step, times(10_000)).send();
+  }
+}
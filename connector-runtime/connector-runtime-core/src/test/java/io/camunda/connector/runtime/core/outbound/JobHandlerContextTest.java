@@ -16,14 +16,21 @@
  */
 package io.camunda.connector.runtime.core.outbound;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -33,6 +40,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class JobHandlerContextTest {
 
+  private static final ObjectMapper MAPPER = ConnectorsObjectMapperSupplier.getCopy();
+
   @Mock private ActivatedJob activatedJob;
   @Mock private SecretProvider secretProvider;
   @Mock private ObjectMapper objectMapper;
@@ -49,10 +58,116 @@ class JobHandlerContextTest {
     verify(objectMapper).readValue("", Integer.class);
   }
 
+  @Test
+  void bindVariablesReplacesSecretsInFieldNamesAndStringValues() {
+    // given
+    when(activatedJob.getVariables())
+        .thenReturn(
+            """
+            {"url": "https://{{secrets.HOST}}/api", "token": "secrets.TOKEN",
+             "headers": {"secrets.TOKEN": "secrets.TOKEN"}, "retries": 3}""");
+    var context =
+        new JobHandlerContext(
+            activatedJob, Map.of("HOST", "camunda.io", "TOKEN", "t0k3n")::get, o -> {}, MAPPER);
+
+    // when
+    var variables = context.bindVariables(Map.class);
+
+    // then
+    assertThat(variables)
+        .isEqualTo(
+            Map.of(
+                "url",
+                "https://camunda.io/api",
+                "token",
+                "t0k3n",
+                "headers",
+                Map.of("t0k3n", "t0k3n"),
+                "retries",
+                3));
+  }
+
+  @Test
+  void bindVariablesDecodesEscapesInSecretValues() {
+    // given
+    when(activatedJob.getVariables())
+        .thenReturn("{\"key\": \"secrets.KEY\", \"quoted\": \"secrets.QUOTED\"}");
+    var secrets =
+        Map.of(
+            "KEY", "-----BEGIN KEY-----\\nMIIB\\n-----END KEY-----",
+            "QUOTED", "say \\\"hello\\\"");
+    var context = new JobHandlerContext(activatedJob, secrets::get, o -> {}, MAPPER);
+
+    // when
+    var variables = context.bindVariables(Map.class);
+
+    // then
+    assertThat(variables)
+        .isEqualTo(
+            Map.of(
+                "key", "-----BEGIN KEY-----\nMIIB\n-----END KEY-----", "quoted", "say \"hello\""));
+  }
+
+  @Test
+  void bindVariablesMatchesVariablesOfJobContext() throws IOException {
+    // given
+    when(activatedJob.getVariables())
+        .thenReturn(
+            """
+            {"secrets.NAME": "secrets.KEY", "nested": {"value": "a secrets.KEY b"}}""");
+    var secrets = Map.of("NAME", "name", "KEY", "line1\\nline2");
+    var context = new JobHandlerContext(activatedJob, secrets::get, o -> {}, MAPPER);
+
+    // when
+    var bound = context.bindVariables(Map.class);
+    var replaced = MAPPER.readValue(context.getJobContext().getVariables(), Map.class);
+
+    // then
+    assertThat(bound)
+        .isEqualTo(replaced)
+        .isEqualTo(Map.of("name", "line1\nline2", "nested", Map.of("value", "a line1\nline2 b")));
+  }
+
+  @Test
+  void bindVariablesFailsOnMissingSecret() {
+    // given
+    when(activatedJob.getVariables()).thenReturn("{\"token\": \"secrets.TOKEN\"}");
+    var context = new JobHandlerContext(activatedJob, name -> null, o -> {}, MAPPER);
+
+    // when & then
+    assertThatThrownBy(() -> context.bindVariables(Map.class))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessage("Secret with name 'TOKEN' is not available");
+  }
+
   @Test
   void getVariables() {
     when(activatedJob.getVariables()).thenReturn("{}");
     jobHandlerContext.getJobContext().getVariables();
     verify(activatedJob).getVariables();
   }
+
+  @Test
+  void bindVariablesReportsPhases() {
+    // given
+    when(activatedJob.getVariables())
+        .thenReturn("{\"token\": \"secrets.TOKEN\", \"other\": \"secrets.TOKEN\"}");
+    var phases = new ArrayList<JobPhase>();
+    var context =
+        new JobHandlerContext(
+            activatedJob,
+            Map.of("TOKEN", "t0k3n")::get,
+            o -> {},
+            MAPPER,
+            (job, phase, durationNanos) -> phases.add(phase));
+
+    // when
+    context.bindVariables(Map.class);
+    context.recordSecretResolution();
+
+    // then
+    assertThat(phases)
+        .containsExactly(
+            JobPhase.VARIABLE_BINDING, JobPhase.VALIDATION, JobPhase.SECRET_RESOLUTION);
+  }
 }
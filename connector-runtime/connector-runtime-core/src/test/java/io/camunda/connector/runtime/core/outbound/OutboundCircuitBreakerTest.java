@@ -0,0 +1,331 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.api.outbound.AsyncOutboundConnectorFunction;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OutboundCircuitBreakerTest {
+
+  private static final String TYPE = "io.camunda:http-json:1";
+
+  private final AtomicLong now = new AtomicLong();
+  private final OutboundCircuitBreaker.Listener listener =
+      mock(OutboundCircuitBreaker.Listener.class);
+  private final OutboundCircuitBreaker breaker =
+      new OutboundCircuitBreaker(
+          2,
+          Duration.ofSeconds(10),
+          Duration.ofSeconds(30),
+          listener,
+          OutboundCircuitBreaker::isTargetUnavailable,
+          3,
+          now::get);
+  private final AtomicInteger invocations = new AtomicInteger();
+  private final AtomicBoolean failing = new AtomicBoolean(true);
+  private final OutboundConnectorFunction function =
+      breaker.decorate(
+          context -> {
+            invocations.incrementAndGet();
+            if (failing.get()) {
+              throw new ConnectException("Connection refused");
+            }
+            return "ok";
+          });
+
+  private static OutboundConnectorContext context(String variables) {
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn(TYPE);
+    when(job.getVariables()).thenReturn(variables);
+    return new JobHandlerContext(
+        job, name -> "secret", mock(ValidationProvider.class), new ObjectMapper());
+  }
+
+  private static final OutboundConnectorContext EXAMPLE =
+      context("{\"url\":\"https://example.com/api\"}");
+
+  private void fail(OutboundConnectorContext context) {
+    assertThatThrownBy(() -> function.execute(context)).hasMessage("Connection refused");
+  }
+
+  @Test
+  void shouldFailFastWithRemainingOpenTimeAfterThreshold() {
+    // given
+    fail(EXAMPLE);
+    fail(EXAMPLE);
+    now.addAndGet(Duration.ofSeconds(4).toNanos());
+
+    // when / then
+    assertThatThrownBy(() -> function.execute(EXAMPLE))
+        .isInstanceOfSatisfying(
+            CircuitBreakerOpenException.class,
+            e -> assertThat(e.getRetryBackoff()).isEqualTo(Duration.ofSeconds(6)));
+    assertThat(invocations).hasValue(2);
+    verify(listener).onOpened(TYPE, "example.com");
+    verify(listener).onRejected(TYPE, "example.com");
+  }
+
+  @Test
+  void shouldKeepTargetsApart() throws Exception {
+    // given
+    fail(EXAMPLE);
+    fail(EXAMPLE);
+    failing.set(false);
+
+    // when
+    var result = function.execute(context("{\"url\":\"https://other.com\"}"));
+
+    // then
+    assertThat(result).isEqualTo("ok");
+  }
+
+  @Test
+  void shouldCloseWhenProbeSucceeds() throws Exception {
+    // given
+    fail(EXAMPLE);
+    fail(EXAMPLE);
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+    failing.set(false);
+
+    // when
+    var result = function.execute(EXAMPLE);
+
+    // then
+    assertThat(result).isEqualTo("ok");
+    assertThat(function.execute(EXAMPLE)).isEqualTo("ok");
+    verify(listener).onClosed(TYPE, "example.com");
+  }
+
+  @Test
+  void shouldDoubleOpenTimeWhenProbeFails() {
+    // given
+    fail(EXAMPLE);
+    fail(EXAMPLE);
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    // when
+    fail(EXAMPLE);
+
+    // then
+    assertThatThrownBy(() -> function.execute(EXAMPLE))
+        .isInstanceOfSatisfying(
+            CircuitBreakerOpenException.class,
+            e -> assertThat(e.getRetryBackoff()).isEqualTo(Duration.ofSeconds(20)));
+
+    // and capped at the maximum open duration
+    now.addAndGet(Duration.ofSeconds(20).toNanos());
+    fail(EXAMPLE);
+    assertThatThrownBy(() -> function.execute(EXAMPLE))
+        .isInstanceOfSatisfying(
+            CircuitBreakerOpenException.class,
+            e -> assertThat(e.getRetryBackoff()).isEqualTo(Duration.ofSeconds(30)));
+  }
+
+  @Test
+  void shouldNotCountInputErrors() throws Exception {
+    // given
+    var invalid =
+        breaker.decorate(
+            context -> {
+              throw new ConnectorInputException(new RuntimeException("invalid"));
+            });
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> invalid.execute(EXAMPLE))
+          .isInstanceOf(ConnectorInputException.class);
+    }
+
+    // then
+    failing.set(false);
+    assertThat(function.execute(EXAMPLE)).isEqualTo("ok");
+  }
+
+  @Test
+  void shouldNotCountErrorsAnsweredByTarget() throws Exception {
+    // given a 404 that an error expression maps to a BPMN error
+    var notFound =
+        breaker.decorate(
+            context -> {
+              throw new ConnectorException("404", "Not Found");
+            });
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      assertThatThrownBy(() -> notFound.execute(EXAMPLE))
+          .isInstanceOfSatisfying(
+              ConnectorException.class, e -> assertThat(e.getErrorCode()).isEqualTo("404"));
+    }
+
+    // then
+    verify(listener, never()).onOpened(any(), any());
+  }
+
+  @ParameterizedTest
+  @CsvSource({"500,true", "503,true", "404,false", "BUSINESS_ERROR,false", "5000,false"})
+  void shouldCountServerErrorsOnly(String errorCode, boolean counted) {
+    assertThat(OutboundCircuitBreaker.isTargetUnavailable(new ConnectorException(errorCode, "")))
+        .isEqualTo(counted);
+  }
+
+  @Test
+  void shouldCountTransportErrorsAndTimeouts() {
+    assertThat(OutboundCircuitBreaker.isTargetUnavailable(new SocketTimeoutException())).isTrue();
+    assertThat(OutboundCircuitBreaker.isTargetUnavailable(new TimeoutException())).isTrue();
+    assertThat(
+            OutboundCircuitBreaker.isTargetUnavailable(
+                new RuntimeException(new ConnectException("Connection refused"))))
+        .isTrue();
+    assertThat(OutboundCircuitBreaker.isTargetUnavailable(new IllegalStateException())).isFalse();
+  }
+
+  @Test
+  void shouldUseCustomFailureClassifier() {
+    // given
+    var custom =
+        new OutboundCircuitBreaker(
+            1,
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(10),
+            listener,
+            error -> error instanceof IllegalStateException,
+            3,
+            now::get);
+    var decorated =
+        custom.decorate(
+            context -> {
+              throw new IllegalStateException("throttled");
+            });
+
+    // when
+    assertThatThrownBy(() -> decorated.execute(EXAMPLE)).hasMessage("throttled");
+
+    // then
+    assertThatThrownBy(() -> decorated.execute(EXAMPLE))
+        .isInstanceOf(CircuitBreakerOpenException.class);
+  }
+
+  @Test
+  void shouldNotResolveSecretsForTarget() throws Exception {
+    // given
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn(TYPE);
+    when(job.getVariables()).thenReturn("{\"url\":\"{{secrets.URL}}\"}");
+    var secretProvider = mock(SecretProvider.class);
+    var context =
+        new JobHandlerContext(
+            job, secretProvider, mock(ValidationProvider.class), new ObjectMapper());
+    failing.set(false);
+
+    // when
+    function.execute(context);
+
+    // then
+    verifyNoInteractions(secretProvider);
+  }
+
+  @Test
+  void shouldShareBreakerOfTypeBeyondMaxTargets() {
+    // given
+    fail(context("{\"url\":\"https://a.com\"}"));
+    fail(context("{\"url\":\"https://b.com\"}"));
+    fail(context("{\"url\":\"https://c.com\"}"));
+
+    // when
+    fail(context("{\"url\":\"https://d.com\"}"));
+    fail(context("{\"url\":\"https://e.com\"}"));
+
+    // then
+    assertThat(breaker.size()).isEqualTo(4);
+    verify(listener).onOpened(TYPE, "");
+  }
+
+  @Test
+  void shouldDropIdleBreakersBeyondMaxTargets() throws Exception {
+    // given
+    failing.set(false);
+    for (var host : new String[] {"a.com", "b.com", "c.com", "d.com"}) {
+      function.execute(context("{\"url\":\"https://" + host + "\"}"));
+    }
+
+    // then
+    assertThat(breaker.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldOpenOnFailedStagesOfAsyncFunctions() {
+    // given
+    AsyncOutboundConnectorFunction async =
+        context -> CompletableFuture.failedFuture(new ConnectException("Connection refused"));
+    var decorated = (AsyncOutboundConnectorFunction) breaker.decorate(async);
+    decorated.executeAsync(EXAMPLE);
+    decorated.executeAsync(EXAMPLE);
+
+    // when
+    var stage = decorated.executeAsync(EXAMPLE);
+
+    // then
+    assertThatThrownBy(() -> stage.toCompletableFuture().get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      value = {
+        "{\"method\":\"GET\",\"url\":\"https://example.com:8443/a?b=c\"}|example.com",
+        "{\"queue\":{\"region\":\"eu\",\"url\":\"https://sqs.eu.amazonaws.com/1/q\"}}|sqs.eu.amazonaws.com",
+        "{\"body\":{\"url\":\"https://ignored.com\"},\"graphql\":{\"url\":\"http://gql\"}}|gql",
+        "{\"url\":\"not a uri\"}|''",
+        "{\"url\":\"{{secrets.URL}}\"}|''",
+        "{\"other\":1}|''",
+        "[1,2]|''",
+        "invalid|''"
+      })
+  void shouldFindTarget(String variables, String target) {
+    assertThat(OutboundCircuitBreaker.target(variables)).isEqualTo(target);
+  }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.outbound.AsyncOutboundConnectorFunction;
+import io.camunda.connector.api.outbound.JobContext;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class OutboundResultCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final OutboundResultCache.Listener listener = mock(OutboundResultCache.Listener.class);
+  private final AtomicInteger invocations = new AtomicInteger();
+  private final OutboundConnectorFunction function =
+      context -> "result-" + invocations.incrementAndGet();
+
+  private static OutboundConnectorContext context(String variables, String ttl) {
+    return context(variables, ttl, Map.of());
+  }
+
+  private static OutboundConnectorContext context(
+      String variables, String ttl, Map<String, String> customHeaders) {
+    var headers = new HashMap<>(customHeaders);
+    if (ttl != null) {
+      headers.put(Keywords.RESULT_CACHE_TTL_KEYWORD, ttl);
+    }
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn("io.camunda:test:1");
+    when(job.getTenantId()).thenReturn("<default>");
+    when(job.getVariables()).thenReturn(variables);
+    when(job.getCustomHeaders()).thenReturn(Map.copyOf(headers));
+    return new JobHandlerContext(
+        job, name -> "resolved-" + name, mock(ValidationProvider.class), new ObjectMapper());
+  }
+
+  @Test
+  void shouldReuseResultForEqualVariables() throws Exception {
+    // given
+    var cached = new OutboundResultCache(10, listener, now::get).decorate(function);
+
+    // when
+    var first = cached.execute(context("{\"id\":1}", "PT1M"));
+    var second = cached.execute(context("{\"id\":1}", "PT1M"));
+    var other = cached.execute(context("{\"id\":2}", "PT1M"));
+
+    // then
+    assertThat(first).isEqualTo("result-1");
+    assertThat(second).isEqualTo("result-1");
+    assertThat(other).isEqualTo("result-2");
+    verify(listener).onHit("io.camunda:test:1");
+  }
+
+  @Test
+  void shouldKeyOnVariablesBeforeSecretReplacement() {
+    // given
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn("io.camunda:test:1");
+    when(job.getVariables()).thenReturn("{\"token\":\"{{secrets.TOKEN}}\"}");
+    when(job.getCustomHeaders()).thenReturn(Map.of());
+    var secretProvider = mock(SecretProvider.class);
+    var context =
+        new JobHandlerContext(
+            job, secretProvider, mock(ValidationProvider.class), new ObjectMapper());
+
+    // when
+    var key = OutboundResultCache.key(context);
+
+    // then
+    assertThat(key).isNotNull();
+    verifyNoInteractions(secretProvider);
+  }
+
+  @Test
+  void shouldNotShareResultsAcrossDifferentHeaders() throws Exception {
+    // given
+    var cached = new OutboundResultCache(10, listener, now::get).decorate(function);
+
+    // when
+    var first = cached.execute(context("{}", "PT1M", Map.of("resultExpression", "={a: x}")));
+    var second = cached.execute(context("{}", "PT1M", Map.of("resultExpression", "={b: x}")));
+
+    // then
+    assertThat(first).isEqualTo("result-1");
+    assertThat(second).isEqualTo("result-2");
+  }
+
+  @Test
+  void shouldNotCacheContextsWithoutActivatedJob() throws Exception {
+    // given
+    var cache = new OutboundResultCache(10, listener, now::get);
+    var jobContext = mock(JobContext.class);
+    when(jobContext.getCustomHeaders())
+        .thenReturn(Map.of(Keywords.RESULT_CACHE_TTL_KEYWORD, "PT1M"));
+    var context = mock(OutboundConnectorContext.class);
+    when(context.getJobContext()).thenReturn(jobContext);
+
+    // when
+    cache.decorate(function).execute(context);
+
+    // then
+    assertThat(cache.size()).isZero();
+    verify(jobContext, never()).getVariables();
+  }
+
+  @Test
+  void shouldCallConnectorOnceForConcurrentJobs() {
+    // given
+    var pending = new CompletableFuture<Object>();
+    AsyncOutboundConnectorFunction asyncFunction =
+        context -> {
+          invocations.incrementAndGet();
+          return pending;
+        };
+    var cached =
+        (AsyncOutboundConnectorFunction)
+            new OutboundResultCache(10, listener, now::get).decorate(asyncFunction);
+
+    // when
+    var first = cached.executeAsync(context("{}", "PT1M")).toCompletableFuture();
+    var second = cached.executeAsync(context("{}", "PT1M")).toCompletableFuture();
+    pending.complete("result");
+
+    // then
+    assertThat(first).isCompletedWithValue("result");
+    assertThat(second).isCompletedWithValue("result");
+    assertThat(invocations).hasValue(1);
+  }
+
+  @Test
+  void shouldCallConnectorAgainWhenSharedCallFails() {
+    // given
+    var pending = new CompletableFuture<Object>();
+    AsyncOutboundConnectorFunction asyncFunction =
+        context ->
+            invocations.incrementAndGet() == 1
+                ? pending
+                : CompletableFuture.completedFuture("result");
+    var cached =
+        (AsyncOutboundConnectorFunction)
+            new OutboundResultCache(10, listener, now::get).decorate(asyncFunction);
+
+    // when
+    var first = cached.executeAsync(context("{}", "PT1M")).toCompletableFuture();
+    var second = cached.executeAsync(context("{}", "PT1M")).toCompletableFuture();
+    pending.completeExceptionally(new IllegalStateException("remote system down"));
+
+    // then
+    assertThat(first).isCompletedExceptionally();
+    assertThat(second).isCompletedWithValue("result");
+    assertThat(invocations).hasValue(2);
+  }
+
+  @Test
+  void shouldWaitForConcurrentCallOfSynchronousFunction() throws Exception {
+    // given
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    OutboundConnectorFunction slowFunction =
+        context -> {
+          started.countDown();
+          release.await();
+          return "result-" + invocations.incrementAndGet();
+        };
+    var cached = new OutboundResultCache(10, listener, now::get).decorate(slowFunction);
+    var first =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return cached.execute(context("{}", "PT1M"));
+              } catch (Exception e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    started.await();
+
+    // when
+    var second =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return cached.execute(context("{}", "PT1M"));
+              } catch (Exception e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    release.countDown();
+
+    // then
+    assertThat(first).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("result-1");
+    assertThat(second).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("result-1");
+    assertThat(invocations).hasValue(1);
+  }
+
+  @Test
+  void shouldNotCacheWithoutHeader() throws Exception {
+    // given
+    var cache = new OutboundResultCache(10, listener, now::get);
+    var cached = cache.decorate(function);
+
+    // when
+    cached.execute(context("{}", null));
+    cached.execute(context("{}", null));
+
+    // then
+    assertThat(invocations).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldExpireResultAfterTtl() throws Exception {
+    // given
+    var cached = new OutboundResultCache(10, listener, now::get).decorate(function);
+    cached.execute(context("{}", "PT1S"));
+
+    // when
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    var result = cached.execute(context("{}", "PT1S"));
+
+    // then
+    assertThat(result).isEqualTo("result-2");
+    verify(listener).onExpired("io.camunda:test:1");
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedResult() throws Exception {
+    // given
+    var cache = new OutboundResultCache(1, listener, now::get);
+    var cached = cache.decorate(function);
+
+    // when
+    cached.execute(context("{\"id\":1}", "PT1M"));
+    cached.execute(context("{\"id\":2}", "PT1M"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(1);
+    verify(listener).onEvicted("io.camunda:test:1");
+  }
+
+  @Test
+  void shouldNotCacheFailures() {
+    // given
+    var cache = new OutboundResultCache(10, listener, now::get);
+    OutboundConnectorFunction failing =
+        context -> {
+          throw new IllegalStateException("remote system down");
+        };
+
+    // when & then
+    assertThatThrownBy(() -> cache.decorate(failing).execute(context("{}", "PT1M")))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldFailOnInvalidTtl() {
+    // given
+    var cached = new OutboundResultCache(10, listener, now::get).decorate(function);
+
+    // when & then
+    assertThatThrownBy(() -> cached.execute(context("{}", "one minute")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("one minute");
+  }
+
+  @Test
+  void shouldKeepAsyncFunctionsAsynchronous() {
+    // given
+    AsyncOutboundConnectorFunction asyncFunction =
+        context -> CompletableFuture.completedFuture("result-" + invocations.incrementAndGet());
+    var cached = new OutboundResultCache(10, listener, now::get).decorate(asyncFunction);
+
+    // when
+    var first = ((AsyncOutboundConnectorFunction) cached).executeAsync(context("{}", "PT1M"));
+    var second = ((AsyncOutboundConnectorFunction) cached).executeAsync(context("{}", "PT1M"));
+
+    // then
+    assertThat(first.toCompletableFuture()).isCompletedWithValue("result-1");
+    assertThat(second.toCompletableFuture()).isCompletedWithValue("result-1");
+  }
+}
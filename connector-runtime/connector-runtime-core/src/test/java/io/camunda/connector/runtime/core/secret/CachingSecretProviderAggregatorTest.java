@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.secret;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.connector.api.secret.SecretProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CachingSecretProviderAggregatorTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final CachingSecretProviderAggregator.Listener listener =
+      mock(CachingSecretProviderAggregator.Listener.class);
+  private final AtomicInteger lookups = new AtomicInteger();
+  private final SecretProvider provider =
+      name -> {
+        lookups.incrementAndGet();
+        return Map.of("a", "value-a", "b", "value-b").get(name);
+      };
+
+  private CachingSecretProviderAggregator aggregator(int maxSize) {
+    return new CachingSecretProviderAggregator(
+        List.of(provider, provider),
+        Duration.ofMinutes(1),
+        Duration.ofSeconds(10),
+        maxSize,
+        listener,
+        now::get);
+  }
+
+  @Test
+  void shouldResolveSecretOnceWithinTtl() {
+    // given
+    var aggregator = aggregator(10);
+
+    // when
+    var first = aggregator.getSecret("a");
+    var second = aggregator.getSecret("a");
+
+    // then
+    assertThat(first).isEqualTo("value-a");
+    assertThat(second).isEqualTo("value-a");
+    assertThat(lookups).hasValue(1);
+    verify(listener).onMiss();
+    verify(listener).onHit();
+  }
+
+  @Test
+  void shouldCacheMissingSecretForNegativeTtl() {
+    // given
+    var aggregator = aggregator(10);
+
+    // when
+    aggregator.getSecret("unknown");
+    var cached = aggregator.getSecret("unknown");
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+    var expired = aggregator.getSecret("unknown");
+
+    // then both providers are asked twice, once per miss
+    assertThat(cached).isNull();
+    assertThat(expired).isNull();
+    assertThat(lookups).hasValue(4);
+    verify(listener).onNegativeHit();
+    verify(listener).onExpired();
+    verify(listener, times(2)).onMiss();
+  }
+
+  @Test
+  void shouldResolveSecretAgainAfterTtl() {
+    // given
+    var aggregator = aggregator(10);
+    aggregator.getSecret("a");
+
+    // when
+    now.addAndGet(Duration.ofMinutes(1).toNanos());
+    aggregator.getSecret("a");
+
+    // then
+    assertThat(lookups).hasValue(2);
+    verify(listener).onExpired();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedSecret() {
+    // given
+    var aggregator = aggregator(1);
+
+    // when
+    aggregator.getSecret("a");
+    aggregator.getSecret("b");
+    aggregator.getSecret("a");
+
+    // then
+    assertThat(aggregator.size()).isEqualTo(1);
+    assertThat(lookups).hasValue(3);
+    verify(listener, times(2)).onEvicted();
+  }
+
+  @Test
+  void shouldNotCacheWhenTtlIsZero() {
+    // given
+    var aggregator =
+        new CachingSecretProviderAggregator(
+            List.of(provider), Duration.ZERO, Duration.ZERO, 10, listener, now::get);
+
+    // when
+    aggregator.getSecret("a");
+    aggregator.getSecret("unknown");
+    aggregator.getSecret("a");
+
+    // then
+    assertThat(aggregator.size()).isZero();
+    assertThat(lookups).hasValue(3);
+  }
+
+  @Test
+  void shouldResolveSecretAgainAfterInvalidation() {
+    // given
+    var aggregator = aggregator(10);
+    aggregator.getSecret("a");
+
+    // when
+    aggregator.invalidateAll();
+    aggregator.getSecret("a");
+
+    // then
+    assertThat(lookups).hasValue(2);
+  }
+
+  @Test
+  void shouldResolveOnlyUncachedSecretsInBulk() {
+    // given
+    var aggregator = aggregator(10);
+    aggregator.getSecret("a");
+
+    // when
+    var secrets = aggregator.getSecrets(Set.of("a", "b", "unknown"));
+    var cached = aggregator.getSecrets(Set.of("b", "unknown"));
+
+    // then the first provider resolves "b" and both providers are asked for "unknown"
+    assertThat(secrets).isEqualTo(Map.of("a", "value-a", "b", "value-b"));
+    assertThat(cached).isEqualTo(Map.of("b", "value-b"));
+    assertThat(lookups).hasValue(4);
+    verify(listener, times(3)).onMiss();
+    verify(listener, times(2)).onHit();
+    verify(listener).onNegativeHit();
+  }
+}
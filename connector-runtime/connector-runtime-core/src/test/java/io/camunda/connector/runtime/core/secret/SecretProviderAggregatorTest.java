@@ -17,11 +17,18 @@
 package io.camunda.connector.runtime.core.secret;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.runtime.core.FooBarSecretProvider;
 import io.camunda.connector.runtime.core.NoOpSecretProvider;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class SecretProviderAggregatorTest {
@@ -55,4 +62,24 @@ public class SecretProviderAggregatorTest {
     assertThat(aggregator.getSecretProviders().get(0)).isInstanceOf(FooBarSecretProvider.class);
     assertThat(secret).isEqualTo(FooBarSecretProvider.SECRET_VALUE);
   }
+
+  @Test
+  public void bulkResolutionAsksFollowingProvidersForMissingSecretsOnly() {
+    // given
+    var first = mock(SecretProvider.class);
+    var second = mock(SecretProvider.class);
+    when(first.getSecrets(Set.of("a", "b"))).thenReturn(Map.of("a", "value-a"));
+    when(second.getSecrets(Set.of("b"))).thenReturn(Map.of("b", "value-b"));
+    var aggregator = new SecretProviderAggregator(List.of(first, second));
+
+    // when
+    var secrets = aggregator.getSecrets(Set.of("a", "b"));
+
+    // then
+    assertThat(secrets).isEqualTo(Map.of("a", "value-a", "b", "value-b"));
+    verify(first).getSecrets(Set.of("a", "b"));
+    verify(second).getSecrets(Set.of("b"));
+    verify(first, never()).getSecret(any());
+    verify(second, never()).getSecret(any());
+  }
 }
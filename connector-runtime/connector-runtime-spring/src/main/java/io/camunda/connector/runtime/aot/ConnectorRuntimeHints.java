@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.aot;
+
+import io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.runtime.core.ConnectorUtil;
+import io.camunda.connector.runtime.core.config.ConnectorConfiguration;
+import io.camunda.connector.runtime.core.config.InboundConnectorConfiguration;
+import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
+import io.camunda.connector.runtime.core.error.BpmnError;
+import io.camunda.connector.runtime.core.inbound.DefaultInboundConnectorFactory;
+import io.camunda.connector.runtime.core.outbound.OutboundConnectorDiscovery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Registers the reachability meta-data of the connector runtime for native images. Connectors and
+ * secret providers are discovered and instantiated reflectively, so the connectors on the classpath
+ * at build time are registered together with the input classes declared in their element template
+ * annotation. Connectors added to the classpath later are not available in a native image.
+ */
+public class ConnectorRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectorRuntimeHints.class);
+
+  private final BindingReflectionHintsRegistrar bindingRegistrar =
+      new BindingReflectionHintsRegistrar();
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    hints
+        .resources()
+        .registerPattern("META-INF/services/io.camunda.connector.*")
+        .registerPattern(ConnectorIndexProcessor.INDEX_RESOURCE);
+
+    bindingRegistrar.registerReflectionHints(hints.reflection(), BpmnError.class);
+
+    for (ConnectorConfiguration connector : discoverConnectors()) {
+      var connectorClass = connectorClass(connector);
+      if (connectorClass == null) {
+        continue;
+      }
+      hints.reflection().registerType(connectorClass, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+      ConnectorUtil.getInputDataClass(connectorClass)
+          .ifPresent(type -> bindingRegistrar.registerReflectionHints(hints.reflection(), type));
+    }
+
+    ServiceLoader.load(SecretProvider.class, classLoader).stream()
+        .map(Provider::type)
+        .forEach(
+            type ->
+                hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+  }
+
+  private static List<ConnectorConfiguration> discoverConnectors() {
+    var connectors = new ArrayList<ConnectorConfiguration>();
+    try {
+      connectors.addAll(OutboundConnectorDiscovery.loadConnectorConfigurations());
+      connectors.addAll(new DefaultInboundConnectorFactory().getConfigurations());
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to discover connectors, native image may miss connector meta-data", e);
+    }
+    return connectors;
+  }
+
+  private static Class<?> connectorClass(ConnectorConfiguration connector) {
+    if (connector instanceof OutboundConnectorConfiguration outbound) {
+      return outbound.connectorClass();
+    } else if (connector instanceof InboundConnectorConfiguration inbound) {
+      return inbound.connectorClass();
+    }
+    return null;
+  }
+}
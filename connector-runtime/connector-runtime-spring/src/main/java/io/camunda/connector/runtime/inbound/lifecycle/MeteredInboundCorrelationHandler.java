@@ -17,12 +17,14 @@
 package io.camunda.connector.runtime.inbound.lifecycle;
 
 import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.feel.PreparedContext;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
 import io.camunda.connector.runtime.core.inbound.correlation.CorrelationResult;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import java.util.concurrent.CompletionStage;
 
 public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler {
 
@@ -35,7 +37,8 @@ public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler
   }
 
   @Override
-  protected boolean isActivationConditionMet(InboundConnectorDefinitionImpl def, Object context) {
+  protected boolean isActivationConditionMet(
+      InboundConnectorDefinitionImpl def, PreparedContext context) {
     boolean isConditionMet = super.isActivationConditionMet(def, context);
     if (!isConditionMet) {
       metricsRecorder.increase(
@@ -45,22 +48,24 @@ public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler
   }
 
   @Override
-  public CorrelationResult<?> correlate(
+  public CompletionStage<CorrelationResult<?>> correlateAsync(
       InboundConnectorDefinitionImpl definition, Object variables) {
     metricsRecorder.increase(
         Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_TRIGGERED, definition.type());
 
-    try {
-      var result = super.correlate(definition, variables);
-      if (result.isActivated()) {
-        metricsRecorder.increase(
-            Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_CORRELATED, definition.type());
-      }
-      return result;
-    } catch (Exception e) {
-      metricsRecorder.increase(
-          Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_CORRELATION_FAILED, definition.type());
-      throw e;
-    }
+    // the blocking correlate method delegates here, so both are recorded
+    return super.correlateAsync(definition, variables)
+        .whenComplete(
+            (result, error) -> {
+              if (error != null) {
+                metricsRecorder.increase(
+                    Inbound.METRIC_NAME_TRIGGERS,
+                    Inbound.ACTION_CORRELATION_FAILED,
+                    definition.type());
+              } else if (result.isActivated()) {
+                metricsRecorder.increase(
+                    Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_CORRELATED, definition.type());
+              }
+            });
   }
 }
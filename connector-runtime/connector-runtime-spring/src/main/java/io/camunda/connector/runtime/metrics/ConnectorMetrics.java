@@ -30,6 +30,72 @@ public class ConnectorMetrics {
     public static final String ACTION_COMPLETED = MetricsRecorder.ACTION_COMPLETED;
     public static final String ACTION_FAILED = MetricsRecorder.ACTION_FAILED;
     public static final String ACTION_BPMN_ERROR = MetricsRecorder.ACTION_BPMN_ERROR;
+
+    // job failed without calling the connector because its circuit breaker was open
+    public static final String ACTION_REJECTED = "rejected";
+
+    // complete, fail and throw error commands sent through the job command pipeline
+    public static final String METRIC_NAME_COMMANDS = "camunda.connector.outbound.commands";
+    public static final String ACTION_COMMAND_RETRIED = "retried";
+    public static final String ACTION_COMMAND_FAILED = "failed";
+    public static final String ACTION_COMMAND_REJECTED = "rejected";
+
+    // lookups in the result cache of jobs with a result cache TTL header
+    public static final String METRIC_NAME_RESULT_CACHE = "camunda.connector.outbound.result-cache";
+    public static final String ACTION_CACHE_HIT = "hit";
+    public static final String ACTION_CACHE_MISS = "miss";
+    public static final String ACTION_CACHE_EVICTED = "evicted";
+    public static final String ACTION_CACHE_EXPIRED = "expired";
+
+    // state changes of the circuit breakers per job type, rejected jobs use ACTION_REJECTED
+    public static final String METRIC_NAME_CIRCUIT_BREAKER =
+        "camunda.connector.outbound.circuit-breaker";
+    public static final String ACTION_CIRCUIT_OPENED = "opened";
+    public static final String ACTION_CIRCUIT_CLOSED = "closed";
+
+    // completed phases of a job and their accumulated duration in microseconds, the action is
+    // the phase, e.g. variable-binding
+    public static final String METRIC_NAME_PHASES = "camunda.connector.outbound.phases";
+    public static final String METRIC_NAME_PHASE_TIME =
+        "camunda.connector.outbound.phase-time-micros";
+  }
+
+  public static class Secrets {
+
+    // lookups in the secret cache, the type tag is always TYPE_SECRET
+    public static final String METRIC_NAME_SECRET_CACHE = "camunda.connector.secrets.cache";
+    public static final String TYPE_SECRET = "secret";
+    public static final String ACTION_CACHE_HIT = "hit";
+    public static final String ACTION_CACHE_NEGATIVE_HIT = "negative-hit";
+    public static final String ACTION_CACHE_MISS = "miss";
+    public static final String ACTION_CACHE_EVICTED = "evicted";
+    public static final String ACTION_CACHE_EXPIRED = "expired";
+
+    // background refreshes of secret providers that load all secrets at once, tagged by outcome
+    public static final String METRIC_NAME_SECRET_REFRESH_TIME =
+        "camunda.connector.secrets.refresh";
+    public static final String METRIC_NAME_SECRET_AGE = "camunda.connector.secrets.age";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+  }
+
+  public static class Feel {
+
+    // counters of the cache of parsed FEEL expressions, tagged by engine and action
+    public static final String METRIC_NAME_EXPRESSION_CACHE =
+        "camunda.connector.feel.expression-cache";
+    public static final String METRIC_NAME_EXPRESSION_CACHE_SIZE =
+        "camunda.connector.feel.expression-cache.size";
+    public static final String TAG_ENGINE = "engine";
+    public static final String TAG_ACTION = "action";
+    public static final String ACTION_CACHE_HIT = "hit";
+    public static final String ACTION_CACHE_MISS = "miss";
+    public static final String ACTION_CACHE_EVICTED = "evicted";
+
+    // the FEEL engine of the runtime and the one evaluating result and error expressions
+    public static final String ENGINE_RUNTIME = "runtime";
+    public static final String ENGINE_CONNECTOR_HELPER = "connector-helper";
   }
 
   public static class Inbound {
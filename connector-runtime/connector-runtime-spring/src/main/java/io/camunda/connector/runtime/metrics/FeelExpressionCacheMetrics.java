@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.feel.ParsedExpressionCache.Statistics;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Feel;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the hit, miss and eviction counts and the size of the caches of parsed expressions of
+ * the given FEEL engines, tagged by engine name.
+ */
+public class FeelExpressionCacheMetrics implements MeterBinder {
+
+  private final Map<String, FeelEngineWrapper> engines;
+
+  public FeelExpressionCacheMetrics(Map<String, FeelEngineWrapper> engines) {
+    this.engines = Map.copyOf(engines);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    engines.forEach(
+        (name, engine) -> {
+          counter(registry, name, engine, Feel.ACTION_CACHE_HIT, e -> statistic(e).hits());
+          counter(registry, name, engine, Feel.ACTION_CACHE_MISS, e -> statistic(e).misses());
+          counter(registry, name, engine, Feel.ACTION_CACHE_EVICTED, e -> statistic(e).evictions());
+          Gauge.builder(Feel.METRIC_NAME_EXPRESSION_CACHE_SIZE, engine, e -> statistic(e).size())
+              .tag(Feel.TAG_ENGINE, name)
+              .register(registry);
+        });
+  }
+
+  private static void counter(
+      MeterRegistry registry,
+      String name,
+      FeelEngineWrapper engine,
+      String action,
+      ToDoubleFunction<FeelEngineWrapper> count) {
+    FunctionCounter.builder(Feel.METRIC_NAME_EXPRESSION_CACHE, engine, count)
+        .tag(Feel.TAG_ENGINE, name)
+        .tag(Feel.TAG_ACTION, action)
+        .register(registry);
+  }
+
+  private static Statistics statistic(FeelEngineWrapper engine) {
+    return engine.getExpressionCacheStatistics();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.core.secret.CachingSecretProviderAggregator;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Secrets;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+
+/** Records lookups and removals of a {@link CachingSecretProviderAggregator}. */
+public class SecretCacheMetrics implements CachingSecretProviderAggregator.Listener {
+
+  private final MetricsRecorder metricsRecorder;
+
+  public SecretCacheMetrics(MetricsRecorder metricsRecorder) {
+    this.metricsRecorder = metricsRecorder;
+  }
+
+  @Override
+  public void onHit() {
+    increase(Secrets.ACTION_CACHE_HIT);
+  }
+
+  @Override
+  public void onNegativeHit() {
+    increase(Secrets.ACTION_CACHE_NEGATIVE_HIT);
+  }
+
+  @Override
+  public void onMiss() {
+    increase(Secrets.ACTION_CACHE_MISS);
+  }
+
+  @Override
+  public void onEvicted() {
+    increase(Secrets.ACTION_CACHE_EVICTED);
+  }
+
+  @Override
+  public void onExpired() {
+    increase(Secrets.ACTION_CACHE_EXPIRED);
+  }
+
+  private void increase(String action) {
+    metricsRecorder.increase(Secrets.METRIC_NAME_SECRET_CACHE, action, Secrets.TYPE_SECRET);
+  }
+}
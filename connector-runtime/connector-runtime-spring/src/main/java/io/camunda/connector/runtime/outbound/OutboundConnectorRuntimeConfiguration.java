@@ -19,17 +19,26 @@ package io.camunda.connector.runtime.outbound;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.outbound.DefaultOutboundConnectorFactory;
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline;
+import io.camunda.connector.runtime.core.outbound.JobPhase;
+import io.camunda.connector.runtime.core.outbound.OutboundCircuitBreaker;
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorDiscovery;
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
+import io.camunda.connector.runtime.core.outbound.OutboundResultCache;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.outbound.jobhandling.OutboundJobExecutor;
 import io.camunda.connector.runtime.outbound.lifecycle.OutboundConnectorAnnotationProcessor;
 import io.camunda.connector.runtime.outbound.lifecycle.OutboundConnectorManager;
+import io.camunda.connector.runtime.outbound.lifecycle.OutboundConnectorManagerOptions;
+import io.camunda.connector.runtime.outbound.lifecycle.OutboundConnectorTypeSettings;
 import io.camunda.zeebe.spring.client.jobhandling.CommandExceptionHandlingStrategy;
 import io.camunda.zeebe.spring.client.jobhandling.JobWorkerManager;
 import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 @Configuration
 public class OutboundConnectorRuntimeConfiguration {
@@ -48,7 +57,15 @@ public class OutboundConnectorRuntimeConfiguration {
       SecretProviderAggregator secretProviderAggregator,
       @Autowired(required = false) ValidationProvider validationProvider,
       ObjectMapper objectMapper,
-      MetricsRecorder metricsRecorder) {
+      MetricsRecorder metricsRecorder,
+      @Autowired(required = false) OutboundJobExecutor jobExecutor,
+      @Autowired(required = false) JobCommandPipeline commandPipeline,
+      @Autowired(required = false) OutboundResultCache resultCache,
+      @Autowired(required = false) OutboundCircuitBreaker circuitBreaker,
+      @Autowired(required = false) JobPhase.Listener phaseListener,
+      @Value("${camunda.connector.outbound.async.max-jobs-in-flight:1000}")
+          int maxAsyncJobsInFlight,
+      Environment environment) {
     return new OutboundConnectorManager(
         jobWorkerManager,
         connectorFactory,
@@ -56,7 +73,16 @@ public class OutboundConnectorRuntimeConfiguration {
         secretProviderAggregator,
         validationProvider,
         objectMapper,
-        metricsRecorder);
+        metricsRecorder,
+        OutboundConnectorManagerOptions.builder()
+            .jobExecutor(jobExecutor)
+            .typeSettings(type -> OutboundConnectorTypeSettings.fromProperties(environment, type))
+            .commandPipeline(commandPipeline)
+            .resultCache(resultCache)
+            .circuitBreaker(circuitBreaker)
+            .phaseListener(phaseListener)
+            .maxAsyncJobsInFlight(maxAsyncJobsInFlight)
+            .build());
   }
 
   @Bean
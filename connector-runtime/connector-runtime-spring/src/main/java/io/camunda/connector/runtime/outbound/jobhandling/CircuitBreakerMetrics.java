@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import io.camunda.connector.runtime.core.outbound.OutboundCircuitBreaker;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Outbound;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+
+/**
+ * Records state changes and rejected jobs of an {@link OutboundCircuitBreaker} per job type. The
+ * target is not recorded to keep the number of tags bounded.
+ */
+public class CircuitBreakerMetrics implements OutboundCircuitBreaker.Listener {
+
+  private final MetricsRecorder metricsRecorder;
+
+  public CircuitBreakerMetrics(MetricsRecorder metricsRecorder) {
+    this.metricsRecorder = metricsRecorder;
+  }
+
+  @Override
+  public void onOpened(String type, String target) {
+    metricsRecorder.increase(
+        Outbound.METRIC_NAME_CIRCUIT_BREAKER, Outbound.ACTION_CIRCUIT_OPENED, type);
+  }
+
+  @Override
+  public void onClosed(String type, String target) {
+    metricsRecorder.increase(
+        Outbound.METRIC_NAME_CIRCUIT_BREAKER, Outbound.ACTION_CIRCUIT_CLOSED, type);
+  }
+
+  @Override
+  public void onRejected(String type, String target) {
+    metricsRecorder.increase(Outbound.METRIC_NAME_CIRCUIT_BREAKER, Outbound.ACTION_REJECTED, type);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline;
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline.Command;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Outbound;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+
+/**
+ * Records retried, failed and rejected job commands of a {@link JobCommandPipeline} per job type.
+ */
+public class JobCommandMetrics implements JobCommandPipeline.Listener {
+
+  private final MetricsRecorder metricsRecorder;
+
+  public JobCommandMetrics(MetricsRecorder metricsRecorder) {
+    this.metricsRecorder = metricsRecorder;
+  }
+
+  @Override
+  public void onRetried(String type, Command command, Throwable error) {
+    metricsRecorder.increase(Outbound.METRIC_NAME_COMMANDS, Outbound.ACTION_COMMAND_RETRIED, type);
+  }
+
+  @Override
+  public void onFailed(String type, Command command, Throwable error) {
+    metricsRecorder.increase(Outbound.METRIC_NAME_COMMANDS, Outbound.ACTION_COMMAND_FAILED, type);
+  }
+
+  @Override
+  public void onRejected(String type, Command command) {
+    metricsRecorder.increase(Outbound.METRIC_NAME_COMMANDS, Outbound.ACTION_COMMAND_REJECTED, type);
+  }
+}
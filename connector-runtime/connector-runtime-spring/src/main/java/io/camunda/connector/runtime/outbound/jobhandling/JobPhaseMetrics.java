@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import io.camunda.connector.runtime.core.outbound.JobPhase;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Outbound;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the number and the accumulated duration of each {@link JobPhase} of outbound jobs per job
+ * type. The phase is recorded as the action, so the average duration of a phase is the increase of
+ * {@link Outbound#METRIC_NAME_PHASE_TIME} divided by the increase of {@link
+ * Outbound#METRIC_NAME_PHASES}.
+ */
+public class JobPhaseMetrics implements JobPhase.Listener {
+
+  private final MetricsRecorder metricsRecorder;
+
+  public JobPhaseMetrics(MetricsRecorder metricsRecorder) {
+    this.metricsRecorder = metricsRecorder;
+  }
+
+  @Override
+  public void onPhaseCompleted(ActivatedJob job, JobPhase phase, long durationNanos) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    metricsRecorder.increase(Outbound.METRIC_NAME_PHASES, phase.value(), job.getType());
+    metricsRecorder.increase(
+        Outbound.METRIC_NAME_PHASE_TIME,
+        phase.value(),
+        job.getType(),
+        (int) Math.min(micros, Integer.MAX_VALUE));
+  }
+}
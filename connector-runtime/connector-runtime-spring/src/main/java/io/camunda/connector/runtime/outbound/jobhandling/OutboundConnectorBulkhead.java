@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
+import io.camunda.zeebe.client.impl.worker.JobWorkerBuilderImpl;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Isolates the jobs of one outbound connector type on a dedicated thread pool.
+ *
+ * <p>The job worker of the type polls for jobs and runs them on the threads of the bulkhead instead
+ * of the job worker threads of the Zeebe client. A job occupies its slot of {@code maxJobsActive}
+ * until it finished, so a saturated type stops activating jobs while the jobs of other types keep
+ * being served by the Zeebe client.
+ */
+public class OutboundConnectorBulkhead implements AutoCloseable {
+
+  private final ScheduledExecutorService executorService;
+  private final List<Closeable> workers = new CopyOnWriteArrayList<>();
+
+  public OutboundConnectorBulkhead(String type, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException(
+          "Number of executor threads must be positive, but was " + threads);
+    }
+    this.executorService =
+        Executors.newScheduledThreadPool(
+            threads, new CustomizableThreadFactory("connector-" + type + "-"));
+  }
+
+  /**
+   * Creates a job worker builder that polls for jobs and runs them on the threads of this bulkhead.
+   * The worker is closed together with the bulkhead.
+   */
+  public JobWorkerBuilderStep1 newWorker(
+      ZeebeClientConfiguration configuration, JobClient jobClient) {
+    return new JobWorkerBuilderImpl(configuration, jobClient, executorService, workers);
+  }
+
+  @Override
+  public void close() {
+    for (Closeable worker : workers) {
+      try {
+        worker.close();
+      } catch (IOException e) {
+        // closing a job worker only cancels its scheduled polls and does not throw
+      }
+    }
+    workers.clear();
+    executorService.shutdown();
+  }
+}
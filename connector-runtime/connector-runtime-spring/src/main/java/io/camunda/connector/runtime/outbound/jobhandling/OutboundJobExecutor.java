@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs outbound connector jobs on a dedicated {@link ExecutorService} instead of the job worker
+ * threads of the Zeebe client, so that connectors blocking on I/O do not starve other job types.
+ *
+ * <p>The number of jobs in flight is limited across all job types. When the limit is reached, the
+ * Zeebe client thread handing over the next job blocks until a running job finishes, which stops
+ * the job workers from activating more jobs than the runtime can process.
+ */
+public class OutboundJobExecutor implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OutboundJobExecutor.class);
+
+  private final ExecutorService executorService;
+  private final Semaphore permits;
+
+  public OutboundJobExecutor(ExecutorService executorService, int maxConcurrentJobs) {
+    if (maxConcurrentJobs < 1) {
+      throw new IllegalArgumentException(
+          "Maximum number of concurrent jobs must be positive, but was " + maxConcurrentJobs);
+    }
+    this.executorService = executorService;
+    this.permits = new Semaphore(maxConcurrentJobs);
+  }
+
+  /**
+   * Creates an executor that runs each job on a new virtual thread.
+   *
+   * @throws IllegalStateException if the runtime does not support virtual threads, i.e. runs on a
+   *     Java version older than 21
+   */
+  public static OutboundJobExecutor virtualThreads(int maxConcurrentJobs) {
+    return new OutboundJobExecutor(newVirtualThreadPerTaskExecutor(), maxConcurrentJobs);
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "Virtual threads require Java 21, but the runtime runs on Java "
+              + Runtime.version().feature()
+              + ". Remove camunda.connector.outbound.executor=virtual to run outbound jobs on the"
+              + " job worker threads of the Zeebe client.",
+          e);
+    }
+  }
+
+  /** Wraps the handler so that it is invoked on this executor. */
+  public JobHandler decorate(JobHandler handler) {
+    return (client, job) -> execute(handler, client, job);
+  }
+
+  private void execute(JobHandler handler, JobClient client, ActivatedJob job)
+      throws InterruptedException {
+    permits.acquire();
+    try {
+      executorService.execute(
+          () -> {
+            try {
+              handler.handle(client, job);
+            } catch (Exception e) {
+              failJob(client, job, e);
+            } finally {
+              permits.release();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  // mirrors the handling of the Zeebe client when a job handler throws
+  private void failJob(JobClient client, ActivatedJob job, Exception exception) {
+    LOG.warn(
+        "Worker {} failed to handle job with key {} of type {}, sending fail command to broker",
+        job.getWorker(),
+        job.getKey(),
+        job.getType(),
+        exception);
+    var stackTrace = new StringWriter();
+    exception.printStackTrace(new PrintWriter(stackTrace));
+    client
+        .newFailCommand(job.getKey())
+        .retries(job.getRetries() - 1)
+        .errorMessage(stackTrace.toString())
+        .send();
+  }
+
+  @Override
+  public void close() {
+    executorService.shutdown();
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import io.camunda.connector.runtime.core.outbound.OutboundResultCache;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Outbound;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+
+/** Records lookups and removals of an {@link OutboundResultCache} per job type. */
+public class ResultCacheMetrics implements OutboundResultCache.Listener {
+
+  private final MetricsRecorder metricsRecorder;
+
+  public ResultCacheMetrics(MetricsRecorder metricsRecorder) {
+    this.metricsRecorder = metricsRecorder;
+  }
+
+  @Override
+  public void onHit(String type) {
+    metricsRecorder.increase(Outbound.METRIC_NAME_RESULT_CACHE, Outbound.ACTION_CACHE_HIT, type);
+  }
+
+  @Override
+  public void onMiss(String type) {
+    metricsRecorder.increase(Outbound.METRIC_NAME_RESULT_CACHE, Outbound.ACTION_CACHE_MISS, type);
+  }
+
+  @Override
+  public void onEvicted(String type) {
+    metricsRecorder.increase(
+        Outbound.METRIC_NAME_RESULT_CACHE, Outbound.ACTION_CACHE_EVICTED, type);
+  }
+
+  @Override
+  public void onExpired(String type) {
+    metricsRecorder.increase(
+        Outbound.METRIC_NAME_RESULT_CACHE, Outbound.ACTION_CACHE_EXPIRED, type);
+  }
+}
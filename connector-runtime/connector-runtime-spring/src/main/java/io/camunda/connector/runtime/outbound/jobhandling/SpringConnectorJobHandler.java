@@ -22,7 +22,9 @@ import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
 import io.camunda.connector.runtime.core.error.BpmnError;
 import io.camunda.connector.runtime.core.outbound.ConnectorJobHandler;
+import io.camunda.connector.runtime.core.outbound.ConnectorJobHandlerOptions;
 import io.camunda.connector.runtime.core.outbound.ConnectorResult;
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline.Command;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics.Outbound;
@@ -38,6 +40,9 @@ import org.slf4j.LoggerFactory;
 /**
  * An enhanced implementation of a {@link ConnectorJobHandler} that adds metrics, asynchronous
  * command execution, and retries.
+ *
+ * <p>For an {@link io.camunda.connector.api.outbound.AsyncOutboundConnectorFunction}, the execution
+ * time metric only covers the invocation of the connector, not the completion of its result.
  */
 public class SpringConnectorJobHandler extends ConnectorJobHandler {
 
@@ -55,7 +60,33 @@ public class SpringConnectorJobHandler extends ConnectorJobHandler {
       ObjectMapper objectMapper,
       OutboundConnectorFunction connectorFunction,
       OutboundConnectorConfiguration connectorConfiguration) {
-    super(connectorFunction, secretProviderAggregator, validationProvider, objectMapper);
+    this(
+        metricsRecorder,
+        commandExceptionHandlingStrategy,
+        secretProviderAggregator,
+        validationProvider,
+        objectMapper,
+        connectorFunction,
+        connectorConfiguration,
+        ConnectorJobHandlerOptions.DEFAULT);
+  }
+
+  /**
+   * @param options - optional features of the handler. Without a command pipeline, each command is
+   *     sent with a {@link CommandWrapper} using the given {@link
+   *     CommandExceptionHandlingStrategy}, and the send latency of commands is not reported to the
+   *     phase listener.
+   */
+  public SpringConnectorJobHandler(
+      MetricsRecorder metricsRecorder,
+      CommandExceptionHandlingStrategy commandExceptionHandlingStrategy,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      ObjectMapper objectMapper,
+      OutboundConnectorFunction connectorFunction,
+      OutboundConnectorConfiguration connectorConfiguration,
+      ConnectorJobHandlerOptions options) {
+    super(connectorFunction, secretProviderAggregator, validationProvider, objectMapper, options);
     this.metricsRecorder = metricsRecorder;
     this.commandExceptionHandlingStrategy = commandExceptionHandlingStrategy;
     this.connectorConfiguration = connectorConfiguration;
@@ -84,14 +115,12 @@ public class SpringConnectorJobHandler extends ConnectorJobHandler {
   }
 
   @Override
-  @SuppressWarnings({"unchecked", "rawtypes"})
   protected void failJob(JobClient client, ActivatedJob job, ConnectorResult.ErrorResult result) {
     try {
       metricsRecorder.increase(
           Outbound.METRIC_NAME_INVOCATIONS, Outbound.ACTION_FAILED, connectorConfiguration.type());
     } finally {
-      FinalCommandStep commandStep = prepareFailJobCommand(client, job, result);
-      new CommandWrapper(commandStep, job, commandExceptionHandlingStrategy).executeAsync();
+      super.failJob(client, job, result);
     }
   }
 
@@ -103,16 +132,11 @@ public class SpringConnectorJobHandler extends ConnectorJobHandler {
           Outbound.ACTION_BPMN_ERROR,
           connectorConfiguration.type());
     } finally {
-      new CommandWrapper(
-              prepareThrowBpmnErrorCommand(client, job, value),
-              job,
-              commandExceptionHandlingStrategy)
-          .executeAsync();
+      super.throwBpmnError(client, job, value);
     }
   }
 
   @Override
-  @SuppressWarnings({"unchecked", "rawtypes"})
   protected void completeJob(
       JobClient client, ActivatedJob job, ConnectorResult.SuccessResult result) {
     try {
@@ -121,8 +145,18 @@ public class SpringConnectorJobHandler extends ConnectorJobHandler {
           Outbound.ACTION_COMPLETED,
           connectorConfiguration.type());
     } finally {
-      FinalCommandStep commandStep = prepareCompleteJobCommand(client, job, result);
-      new CommandWrapper(commandStep, job, commandExceptionHandlingStrategy).executeAsync();
+      super.completeJob(client, job, result);
+    }
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected void sendCommand(ActivatedJob job, Command command, FinalCommandStep<?> step) {
+    if (commandPipeline != null) {
+      super.sendCommand(job, command, step);
+    } else {
+      new CommandWrapper((FinalCommandStep) step, job, commandExceptionHandlingStrategy)
+          .executeAsync();
     }
   }
 }
@@ -19,18 +19,31 @@ package io.camunda.connector.runtime.outbound.lifecycle;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.connector.runtime.core.ConnectorUtil;
 import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
+import io.camunda.connector.runtime.core.outbound.ConnectorJobHandlerOptions;
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.core.validation.ValidationUtil;
+import io.camunda.connector.runtime.outbound.jobhandling.OutboundConnectorBulkhead;
 import io.camunda.connector.runtime.outbound.jobhandling.SpringConnectorJobHandler;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.camunda.zeebe.spring.client.annotation.value.ZeebeWorkerValue;
 import io.camunda.zeebe.spring.client.jobhandling.CommandExceptionHandlingStrategy;
 import io.camunda.zeebe.spring.client.jobhandling.JobWorkerManager;
 import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import io.camunda.zeebe.spring.client.metrics.ZeebeClientMetricsBridge;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +57,9 @@ public class OutboundConnectorManager {
   private final ValidationProvider validationProvider;
   private final ObjectMapper objectMapper;
   private final MetricsRecorder metricsRecorder;
+  private final OutboundConnectorManagerOptions options;
+  private final List<OutboundConnectorBulkhead> bulkheads = new CopyOnWriteArrayList<>();
+  private final List<JobWorker> workers = new CopyOnWriteArrayList<>();
 
   public OutboundConnectorManager(
       JobWorkerManager jobWorkerManager,
@@ -53,6 +69,29 @@ public class OutboundConnectorManager {
       ValidationProvider validationProvider,
       ObjectMapper objectMapper,
       MetricsRecorder metricsRecorder) {
+    this(
+        jobWorkerManager,
+        connectorFactory,
+        commandExceptionHandlingStrategy,
+        secretProviderAggregator,
+        validationProvider,
+        objectMapper,
+        metricsRecorder,
+        OutboundConnectorManagerOptions.DEFAULT);
+  }
+
+  /**
+   * @param options - optional features of the job workers, e.g. a dedicated job executor
+   */
+  public OutboundConnectorManager(
+      JobWorkerManager jobWorkerManager,
+      OutboundConnectorFactory connectorFactory,
+      CommandExceptionHandlingStrategy commandExceptionHandlingStrategy,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      ObjectMapper objectMapper,
+      MetricsRecorder metricsRecorder,
+      OutboundConnectorManagerOptions options) {
     this.jobWorkerManager = jobWorkerManager;
     this.connectorFactory = connectorFactory;
     this.commandExceptionHandlingStrategy = commandExceptionHandlingStrategy;
@@ -60,6 +99,7 @@ public class OutboundConnectorManager {
     this.validationProvider = validationProvider;
     this.objectMapper = objectMapper;
     this.metricsRecorder = metricsRecorder;
+    this.options = options;
   }
 
   public void start(final ZeebeClient client) {
@@ -70,11 +110,45 @@ public class OutboundConnectorManager {
         new TreeSet<>(new OutboundConnectorConfigurationComparator());
 
     outboundConnectors.addAll(connectorFactory.getConfigurations());
+    warmUpValidation(outboundConnectors);
     outboundConnectors.forEach(connector -> openWorkerForOutboundConnector(client, connector));
   }
 
+  /** Introspects the input classes of the connectors before the first job arrives. */
+  private void warmUpValidation(Set<OutboundConnectorConfiguration> connectors) {
+    var inputDataClasses = inputDataClasses(connectors);
+    if (inputDataClasses.isEmpty()) {
+      return;
+    }
+    try {
+      var provider =
+          Optional.ofNullable(validationProvider)
+              .orElseGet(ValidationUtil::discoverDefaultValidationProviderImplementation);
+      provider.warmUp(inputDataClasses);
+      LOG.debug("Warmed up validation of connector input classes: {}", inputDataClasses);
+    } catch (Exception e) {
+      LOG.warn("Failed to warm up validation of connector input classes", e);
+    }
+  }
+
+  /** Reads the input classes of the connectors from their element template annotation. */
+  static Set<Class<?>> inputDataClasses(Collection<OutboundConnectorConfiguration> connectors) {
+    Set<Class<?>> inputDataClasses = new LinkedHashSet<>();
+    for (OutboundConnectorConfiguration connector : connectors) {
+      if (connector.connectorClass() != null) {
+        ConnectorUtil.getInputDataClass(connector.connectorClass())
+            .ifPresent(inputDataClasses::add);
+      }
+    }
+    return inputDataClasses;
+  }
+
   public void stop() {
     jobWorkerManager.closeAllOpenWorkers();
+    workers.forEach(JobWorker::close);
+    workers.clear();
+    bulkheads.forEach(OutboundConnectorBulkhead::close);
+    bulkheads.clear();
   }
 
   private void openWorkerForOutboundConnector(
@@ -86,7 +160,28 @@ public class OutboundConnectorManager {
             .setFetchVariables(connector.inputVariables())
             .setAutoComplete(true);
 
+    OutboundConnectorTypeSettings settings = options.typeSettings().apply(connector.type());
+    // a dedicated executor activates at most as many jobs as it has threads by default
+    Integer maxJobsActive =
+        settings.maxJobsActive() != null ? settings.maxJobsActive() : settings.executorThreads();
+    if (maxJobsActive != null) {
+      zeebeWorkerValue.setMaxJobsActive(maxJobsActive);
+    }
+    if (settings.pollInterval() != null) {
+      zeebeWorkerValue.setPollInterval(settings.pollInterval().toMillis());
+    }
+    if (settings.requestTimeout() != null) {
+      zeebeWorkerValue.setRequestTimeout(toSecondsRoundingUp(settings.requestTimeout()));
+    }
+
     OutboundConnectorFunction connectorFunction = connectorFactory.getInstance(connector.type());
+    if (options.circuitBreaker() != null) {
+      connectorFunction = options.circuitBreaker().decorate(connectorFunction);
+    }
+    // cached results are served even while the circuit breaker is open
+    if (options.resultCache() != null) {
+      connectorFunction = options.resultCache().decorate(connectorFunction);
+    }
     LOG.trace("Opening worker for connector {}", connector.name());
 
     JobHandler connectorJobHandler =
@@ -97,8 +192,103 @@ public class OutboundConnectorManager {
             validationProvider,
             objectMapper,
             connectorFunction,
-            connector);
+            connector,
+            ConnectorJobHandlerOptions.builder()
+                .commandPipeline(options.commandPipeline())
+                .phaseListener(options.phaseListener())
+                .maxAsyncJobsInFlight(options.maxAsyncJobsInFlight())
+                .build());
+
+    boolean streamEnabled = Boolean.TRUE.equals(settings.streamEnabled());
+    if (settings.executorThreads() != null) {
+      // the worker of the type polls and runs its jobs on its own threads, so that a saturated
+      // type cannot block the job worker threads shared by the other types
+      var bulkhead = new OutboundConnectorBulkhead(connector.type(), settings.executorThreads());
+      bulkheads.add(bulkhead);
+      workers.add(
+          openWorker(
+              bulkhead.newWorker(client.getConfiguration(), client),
+              zeebeWorkerValue,
+              connectorJobHandler,
+              streamEnabled,
+              settings.streamTimeout(),
+              metricsRecorder));
+      return;
+    }
+    if (options.jobExecutor() != null) {
+      connectorJobHandler = options.jobExecutor().decorate(connectorJobHandler);
+    }
+
+    if (streamEnabled) {
+      workers.add(
+          openStreamingWorker(
+              client,
+              zeebeWorkerValue,
+              connectorJobHandler,
+              settings.streamTimeout(),
+              metricsRecorder));
+    } else {
+      jobWorkerManager.openWorker(client, zeebeWorkerValue, connectorJobHandler);
+    }
+  }
+
+  /**
+   * Opens a job worker that receives jobs through a job stream as soon as they are created, and
+   * polls for jobs as a fallback. The {@link JobWorkerManager} of Spring Zeebe cannot open such
+   * workers yet, so it is configured here the same way.
+   */
+  static JobWorker openStreamingWorker(
+      ZeebeClient client,
+      ZeebeWorkerValue zeebeWorkerValue,
+      JobHandler handler,
+      Duration streamTimeout,
+      MetricsRecorder metricsRecorder) {
+    return openWorker(
+        client.newWorker(), zeebeWorkerValue, handler, true, streamTimeout, metricsRecorder);
+  }
+
+  /** Opens a job worker from the given builder, configured like the {@link JobWorkerManager}. */
+  static JobWorker openWorker(
+      JobWorkerBuilderStep1 workerBuilder,
+      ZeebeWorkerValue zeebeWorkerValue,
+      JobHandler handler,
+      boolean streamEnabled,
+      Duration streamTimeout,
+      MetricsRecorder metricsRecorder) {
+    var builder =
+        workerBuilder
+            .jobType(zeebeWorkerValue.getType())
+            .handler(handler)
+            .name(zeebeWorkerValue.getName())
+            .metrics(new ZeebeClientMetricsBridge(metricsRecorder, zeebeWorkerValue.getType()))
+            .streamEnabled(streamEnabled);
+    if (streamEnabled && streamTimeout != null) {
+      builder = builder.streamTimeout(streamTimeout);
+    }
+    if (zeebeWorkerValue.getMaxJobsActive() != null) {
+      builder = builder.maxJobsActive(zeebeWorkerValue.getMaxJobsActive());
+    }
+    if (zeebeWorkerValue.getPollInterval() != null) {
+      builder = builder.pollInterval(Duration.ofMillis(zeebeWorkerValue.getPollInterval()));
+    }
+    if (zeebeWorkerValue.getRequestTimeout() != null) {
+      builder = builder.requestTimeout(Duration.ofSeconds(zeebeWorkerValue.getRequestTimeout()));
+    }
+    if (zeebeWorkerValue.getFetchVariables() != null
+        && zeebeWorkerValue.getFetchVariables().length > 0) {
+      builder = builder.fetchVariables(zeebeWorkerValue.getFetchVariables());
+    }
+    LOG.info("Starting job {}worker: {}", streamEnabled ? "streaming " : "", zeebeWorkerValue);
+    return builder.open();
+  }
 
-    jobWorkerManager.openWorker(client, zeebeWorkerValue, connectorJobHandler);
+  /** Job workers take the request timeout in whole seconds, shorter timeouts become one second. */
+  static long toSecondsRoundingUp(Duration duration) {
+    if (duration.isNegative() || duration.isZero()) {
+      throw new IllegalArgumentException(
+          "Request timeout of job workers must be positive, but was " + duration);
+    }
+    long seconds = duration.toSeconds();
+    return duration.equals(Duration.ofSeconds(seconds)) ? seconds : seconds + 1;
   }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.lifecycle;
+
+import io.camunda.connector.runtime.core.outbound.ConnectorJobHandlerOptions;
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline;
+import io.camunda.connector.runtime.core.outbound.JobPhase;
+import io.camunda.connector.runtime.core.outbound.OutboundCircuitBreaker;
+import io.camunda.connector.runtime.core.outbound.OutboundResultCache;
+import io.camunda.connector.runtime.outbound.jobhandling.OutboundJobExecutor;
+import io.camunda.zeebe.spring.client.jobhandling.CommandExceptionHandlingStrategy;
+import java.util.function.Function;
+
+/**
+ * Optional features of the {@link OutboundConnectorManager}. Features that are not set are
+ * disabled.
+ *
+ * @param jobExecutor - executor to run the connector jobs on, or {@code null} to run them on the
+ *     job worker threads of the Zeebe client
+ * @param typeSettings - provides the job worker settings per connector type
+ * @param commandPipeline - pipeline to send job commands with, or {@code null} to send each command
+ *     with the {@link CommandExceptionHandlingStrategy}
+ * @param resultCache - cache for the results of jobs that enable caching, or {@code null} to never
+ *     cache results
+ * @param circuitBreaker - circuit breaker guarding the connector calls, or {@code null} to always
+ *     call the connectors
+ * @param phaseListener - receives the duration of each phase of a job, or {@code null}
+ * @param maxAsyncJobsInFlight - maximum number of jobs executing at once per asynchronous connector
+ */
+public record OutboundConnectorManagerOptions(
+    OutboundJobExecutor jobExecutor,
+    Function<String, OutboundConnectorTypeSettings> typeSettings,
+    JobCommandPipeline commandPipeline,
+    OutboundResultCache resultCache,
+    OutboundCircuitBreaker circuitBreaker,
+    JobPhase.Listener phaseListener,
+    int maxAsyncJobsInFlight) {
+
+  public static final OutboundConnectorManagerOptions DEFAULT = builder().build();
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+
+    private OutboundJobExecutor jobExecutor;
+    private Function<String, OutboundConnectorTypeSettings> typeSettings =
+        type -> OutboundConnectorTypeSettings.DEFAULT;
+    private JobCommandPipeline commandPipeline;
+    private OutboundResultCache resultCache;
+    private OutboundCircuitBreaker circuitBreaker;
+    private JobPhase.Listener phaseListener;
+    private int maxAsyncJobsInFlight = ConnectorJobHandlerOptions.DEFAULT_MAX_ASYNC_JOBS_IN_FLIGHT;
+
+    public Builder jobExecutor(OutboundJobExecutor jobExecutor) {
+      this.jobExecutor = jobExecutor;
+      return this;
+    }
+
+    public Builder typeSettings(Function<String, OutboundConnectorTypeSettings> typeSettings) {
+      this.typeSettings = typeSettings;
+      return this;
+    }
+
+    public Builder commandPipeline(JobCommandPipeline commandPipeline) {
+      this.commandPipeline = commandPipeline;
+      return this;
+    }
+
+    public Builder resultCache(OutboundResultCache resultCache) {
+      this.resultCache = resultCache;
+      return this;
+    }
+
+    public Builder circuitBreaker(OutboundCircuitBreaker circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+      return this;
+    }
+
+    public Builder phaseListener(JobPhase.Listener phaseListener) {
+      this.phaseListener = phaseListener;
+      return this;
+    }
+
+    public Builder maxAsyncJobsInFlight(int maxAsyncJobsInFlight) {
+      this.maxAsyncJobsInFlight = maxAsyncJobsInFlight;
+      return this;
+    }
+
+    public OutboundConnectorManagerOptions build() {
+      return new OutboundConnectorManagerOptions(
+          jobExecutor,
+          typeSettings,
+          commandPipeline,
+          resultCache,
+          circuitBreaker,
+          phaseListener,
+          maxAsyncJobsInFlight);
+    }
+  }
+}
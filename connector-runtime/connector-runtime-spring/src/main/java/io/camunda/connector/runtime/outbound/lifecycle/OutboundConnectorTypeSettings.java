@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.lifecycle;
+
+import java.time.Duration;
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * Job worker settings of a single outbound connector type, read from {@code
+ * camunda.connector.outbound.<type>.*}. Settings that are not configured are {@code null} and fall
+ * back to the defaults of the job worker.
+ *
+ * @param maxJobsActive - maximum number of jobs activated at once and, if the type has a dedicated
+ *     executor, maximum number of jobs in flight
+ * @param executorThreads - size of the dedicated thread pool the jobs of this type run on
+ * @param pollInterval - interval in which the job worker polls for new jobs
+ * @param requestTimeout - timeout of the long-polling activation requests
+ * @param streamEnabled - whether jobs are pushed to the worker as soon as they are created, with
+ *     polling as a fallback
+ * @param streamTimeout - lifetime of the job stream before it is recreated
+ */
+public record OutboundConnectorTypeSettings(
+    Integer maxJobsActive,
+    Integer executorThreads,
+    Duration pollInterval,
+    Duration requestTimeout,
+    Boolean streamEnabled,
+    Duration streamTimeout) {
+
+  public static final String PROPERTY_PREFIX = "camunda.connector.outbound.";
+
+  /** Defaults of the job streaming settings for all connector types */
+  public static final String STREAM_PROPERTY_PREFIX = PROPERTY_PREFIX + "stream.";
+
+  public static final OutboundConnectorTypeSettings DEFAULT =
+      new OutboundConnectorTypeSettings(null, null, null, null);
+
+  public OutboundConnectorTypeSettings(
+      Integer maxJobsActive,
+      Integer executorThreads,
+      Duration pollInterval,
+      Duration requestTimeout) {
+    this(maxJobsActive, executorThreads, pollInterval, requestTimeout, null, null);
+  }
+
+  /**
+   * Reads the settings of the given connector type. Durations are given in milliseconds or in
+   * ISO-8601 format, e.g. {@code PT30S}. The job streaming settings fall back to {@code
+   * camunda.connector.outbound.stream.enabled} and {@code
+   * camunda.connector.outbound.stream.timeout}.
+   */
+  public static OutboundConnectorTypeSettings fromProperties(
+      PropertyResolver properties, String type) {
+    var prefix = PROPERTY_PREFIX + type + ".";
+    return new OutboundConnectorTypeSettings(
+        properties.getProperty(prefix + "max-jobs-active", Integer.class),
+        properties.getProperty(prefix + "executor-threads", Integer.class),
+        parseDuration(properties.getProperty(prefix + "poll-interval")),
+        parseDuration(properties.getProperty(prefix + "request-timeout")),
+        properties.getProperty(
+            prefix + "stream-enabled",
+            Boolean.class,
+            properties.getProperty(STREAM_PROPERTY_PREFIX + "enabled", Boolean.class)),
+        parseDuration(
+            properties.getProperty(
+                prefix + "stream-timeout",
+                properties.getProperty(STREAM_PROPERTY_PREFIX + "timeout"))));
+  }
+
+  private static Duration parseDuration(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    var trimmed = value.trim();
+    return trimmed.chars().allMatch(Character::isDigit)
+        ? Duration.ofMillis(Long.parseLong(trimmed))
+        : Duration.parse(trimmed);
+  }
+}
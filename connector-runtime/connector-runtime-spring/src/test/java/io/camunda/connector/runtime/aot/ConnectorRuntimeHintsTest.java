@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.aot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.runtime.core.error.BpmnError;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+class ConnectorRuntimeHintsTest {
+
+  private final RuntimeHints hints = new RuntimeHints();
+
+  @Test
+  void shouldRegisterDiscoveryResources() {
+    // when
+    new ConnectorRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    // then
+    assertThat(
+            RuntimeHintsPredicates.resource()
+                .forResource(
+                    "META-INF/services/io.camunda.connector.api.outbound.OutboundConnectorFunction"))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/camunda/connectors.index"))
+        .accepts(hints);
+  }
+
+  @Test
+  void shouldRegisterBindingOfErrorExpressionResult() {
+    // when
+    new ConnectorRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    // then
+    assertThat(RuntimeHintsPredicates.reflection().onType(BpmnError.class)).accepts(hints);
+  }
+
+  @Test
+  void shouldBeRegisteredForAotProcessing() {
+    // when
+    var registrars =
+        SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+            .load(RuntimeHintsRegistrar.class);
+
+    // then
+    assertThat(registrars).hasAtLeastOneElementOfType(ConnectorRuntimeHints.class);
+  }
+}
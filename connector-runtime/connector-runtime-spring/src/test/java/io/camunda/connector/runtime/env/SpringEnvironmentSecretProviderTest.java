@@ -18,6 +18,8 @@ package io.camunda.connector.runtime.env;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.env.MockEnvironment;
 
@@ -32,4 +34,15 @@ public class SpringEnvironmentSecretProviderTest {
     String myTotalSecret = secretProvider.getSecret("my-total-secret");
     assertThat(myTotalSecret).isEqualTo("beebop");
   }
+
+  @Test
+  void shouldResolveSecretsInBulk() {
+    MockEnvironment env = new MockEnvironment();
+    env.setProperty("secrets.first", "one");
+    env.setProperty("secrets.second", "two");
+    SpringEnvironmentSecretProvider secretProvider =
+        new SpringEnvironmentSecretProvider(env, "secrets.");
+    Map<String, String> secrets = secretProvider.getSecrets(Set.of("first", "second", "third"));
+    assertThat(secrets).isEqualTo(Map.of("first", "one", "second", "two"));
+  }
 }
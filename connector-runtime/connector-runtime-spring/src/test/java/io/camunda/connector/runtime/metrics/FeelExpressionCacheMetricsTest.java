@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Feel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.impl.JavaValueMapper;
+import org.junit.jupiter.api.Test;
+
+class FeelExpressionCacheMetricsTest {
+
+  @Test
+  void shouldPublishCacheCountersPerEngine() {
+    // given
+    var registry = new SimpleMeterRegistry();
+    var engine =
+        new FeelEngineWrapper(
+            new FeelEngine.Builder().customValueMapper(new JavaValueMapper()).build(),
+            new ObjectMapper(),
+            1);
+    new FeelExpressionCacheMetrics(Map.of("test", engine)).bindTo(registry);
+
+    // when
+    engine.evaluate("=a", Map.of("a", 1));
+    engine.evaluate("=a", Map.of("a", 1));
+    engine.evaluate("=b", Map.of("b", 1));
+
+    // then
+    assertThat(count(registry, Feel.ACTION_CACHE_HIT)).isEqualTo(1);
+    assertThat(count(registry, Feel.ACTION_CACHE_MISS)).isEqualTo(2);
+    assertThat(count(registry, Feel.ACTION_CACHE_EVICTED)).isEqualTo(1);
+    assertThat(
+            registry
+                .get(Feel.METRIC_NAME_EXPRESSION_CACHE_SIZE)
+                .tag(Feel.TAG_ENGINE, "test")
+                .gauge()
+                .value())
+        .isEqualTo(1);
+  }
+
+  private static double count(SimpleMeterRegistry registry, String action) {
+    return registry
+        .get(Feel.METRIC_NAME_EXPRESSION_CACHE)
+        .tag(Feel.TAG_ENGINE, "test")
+        .tag(Feel.TAG_ACTION, action)
+        .functionCounter()
+        .count();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.runtime.core.outbound.JobPhase;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Outbound;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.spring.client.metrics.SimpleMetricsRecorder;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class JobPhaseMetricsTest {
+
+  private static final String TYPE = "io.camunda:http-json:1";
+
+  private static ActivatedJob job(String type) {
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn(type);
+    return job;
+  }
+
+  @Test
+  void shouldRecordPhasesPerType() {
+    // given
+    var recorder = new SimpleMetricsRecorder();
+    var metrics = new JobPhaseMetrics(recorder);
+
+    // when
+    metrics.onPhaseCompleted(job(TYPE), JobPhase.EXECUTION, Duration.ofMillis(20).toNanos());
+    metrics.onPhaseCompleted(job(TYPE), JobPhase.EXECUTION, Duration.ofMillis(10).toNanos());
+    metrics.onPhaseCompleted(job("other"), JobPhase.EXECUTION, Duration.ofMillis(5).toNanos());
+    metrics.onPhaseCompleted(job(TYPE), JobPhase.SECRET_RESOLUTION, 1000);
+
+    // then
+    assertThat(recorder.getCount(Outbound.METRIC_NAME_PHASES, "execution", TYPE)).isEqualTo(2);
+    assertThat(recorder.getCount(Outbound.METRIC_NAME_PHASE_TIME, "execution", TYPE))
+        .isEqualTo(30_000);
+    assertThat(recorder.getCount(Outbound.METRIC_NAME_PHASE_TIME, "execution", "other"))
+        .isEqualTo(5_000);
+    assertThat(recorder.getCount(Outbound.METRIC_NAME_PHASES, "secret-resolution", TYPE))
+        .isEqualTo(1);
+    assertThat(recorder.getCount(Outbound.METRIC_NAME_PHASE_TIME, "secret-resolution", TYPE))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldCapDurationsExceedingTheCounterIncrement() {
+    // given
+    var recorder = new SimpleMetricsRecorder();
+
+    // when
+    new JobPhaseMetrics(recorder)
+        .onPhaseCompleted(job(TYPE), JobPhase.EXECUTION, Duration.ofDays(1).toNanos());
+
+    // then
+    assertThat(recorder.getCount(Outbound.METRIC_NAME_PHASE_TIME, "execution", TYPE))
+        .isEqualTo(Integer.MAX_VALUE);
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep2;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep3;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
+import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
+import io.camunda.zeebe.client.impl.ZeebeClientFutureImpl;
+import io.camunda.zeebe.client.impl.worker.JobWorkerBuilderImpl;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OutboundConnectorBulkheadTest {
+
+  private final ZeebeClientBuilderImpl configuration = new ZeebeClientBuilderImpl();
+  private final Map<String, Queue<ActivatedJob>> pendingJobs = new ConcurrentHashMap<>();
+  private final JobClient jobClient = mock(JobClient.class);
+  private final OutboundConnectorBulkhead bulkhead = new OutboundConnectorBulkhead("slow", 1);
+  // the Zeebe client runs all job workers on a single thread by default
+  private final ScheduledExecutorService clientExecutor =
+      Executors.newSingleThreadScheduledExecutor();
+  private final List<JobWorker> workers = new ArrayList<>();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @AfterEach
+  void close() {
+    release.countDown();
+    workers.forEach(JobWorker::close);
+    bulkhead.close();
+    clientExecutor.shutdownNow();
+  }
+
+  @Test
+  void shouldNotDelayJobsOfOtherTypesWhenSaturated() throws Exception {
+    // given
+    when(jobClient.newActivateJobsCommand()).thenAnswer(invocation -> new ActivateJobsCommand());
+    addJobs("slow", 3);
+    addJobs("fast", 1);
+    var slowStarted = new CountDownLatch(1);
+    var fastHandled = new CountDownLatch(1);
+    open(
+        bulkhead.newWorker(configuration, jobClient).jobType("slow"),
+        (client, job) -> {
+          slowStarted.countDown();
+          release.await();
+        });
+    assertThat(slowStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    open(
+        new JobWorkerBuilderImpl(configuration, jobClient, clientExecutor, new ArrayList<>())
+            .jobType("fast"),
+        (client, job) -> fastHandled.countDown());
+
+    // then the saturated type does not activate further jobs, the other type is served
+    assertThat(fastHandled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(pendingJobs.get("slow")).hasSize(2);
+  }
+
+  @Test
+  void shouldRunJobsOnDedicatedThreads() throws Exception {
+    // given
+    when(jobClient.newActivateJobsCommand()).thenAnswer(invocation -> new ActivateJobsCommand());
+    addJobs("slow", 1);
+    var threadName = new CompletableFuture<String>();
+
+    // when
+    open(
+        bulkhead.newWorker(configuration, jobClient).jobType("slow"),
+        (client, job) -> threadName.complete(Thread.currentThread().getName()));
+
+    // then
+    assertThat(threadName.get(5, TimeUnit.SECONDS)).startsWith("connector-slow-");
+  }
+
+  private void open(JobWorkerBuilderStep2 builder, JobHandler handler) {
+    workers.add(
+        builder.handler(handler).maxJobsActive(1).pollInterval(Duration.ofMillis(10)).open());
+  }
+
+  private void addJobs(String type, int count) {
+    var jobs = pendingJobs.computeIfAbsent(type, t -> new ConcurrentLinkedQueue<>());
+    for (int i = 0; i < count; i++) {
+      jobs.add(mock(ActivatedJob.class));
+    }
+  }
+
+  /** Activates the pending jobs of the requested type, up to the requested number. */
+  private class ActivateJobsCommand
+      implements ActivateJobsCommandStep1, ActivateJobsCommandStep2, ActivateJobsCommandStep3 {
+
+    private String type;
+    private int maxJobs;
+
+    @Override
+    public ActivateJobsCommandStep2 jobType(String jobType) {
+      this.type = jobType;
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 maxJobsToActivate(int maxJobsToActivate) {
+      this.maxJobs = maxJobsToActivate;
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 timeout(Duration timeout) {
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 workerName(String workerName) {
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 fetchVariables(List<String> fetchVariables) {
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 fetchVariables(String... fetchVariables) {
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 tenantId(String tenantId) {
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 tenantIds(List<String> tenantIds) {
+      return this;
+    }
+
+    @Override
+    public ActivateJobsCommandStep3 tenantIds(String... tenantIds) {
+      return this;
+    }
+
+    @Override
+    public FinalCommandStep<ActivateJobsResponse> requestTimeout(Duration requestTimeout) {
+      return this;
+    }
+
+    @Override
+    public ZeebeFuture<ActivateJobsResponse> send() {
+      var jobs = pendingJobs.getOrDefault(type, new ConcurrentLinkedQueue<>());
+      List<ActivatedJob> activated = new ArrayList<>();
+      ActivatedJob job;
+      while (activated.size() < maxJobs && (job = jobs.poll()) != null) {
+        activated.add(job);
+      }
+      var future = new ZeebeClientFutureImpl<ActivateJobsResponse, Object>();
+      future.complete(() -> activated);
+      return future;
+    }
+  }
+}
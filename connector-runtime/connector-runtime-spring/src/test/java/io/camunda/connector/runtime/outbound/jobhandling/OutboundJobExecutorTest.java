@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.jobhandling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobCommandStep1.FailJobCommandStep2;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class OutboundJobExecutorTest {
+
+  private final OutboundJobExecutor executor =
+      new OutboundJobExecutor(Executors.newCachedThreadPool(), 2);
+  private final JobClient client = mock(JobClient.class);
+  private final ActivatedJob job = mock(ActivatedJob.class);
+
+  @AfterEach
+  void close() {
+    executor.close();
+  }
+
+  @Test
+  void shouldRunJobOnExecutor() throws Exception {
+    // given
+    var callerThread = Thread.currentThread();
+    var handlerThread = new CompletableFuture<Thread>();
+
+    // when
+    executor
+        .decorate((client, job) -> handlerThread.complete(Thread.currentThread()))
+        .handle(client, job);
+
+    // then
+    assertThat(handlerThread.get(5, TimeUnit.SECONDS)).isNotSameAs(callerThread);
+  }
+
+  @Test
+  void shouldLimitConcurrentJobs() throws Exception {
+    // given
+    var release = new CountDownLatch(1);
+    var handler = executor.decorate((client, job) -> release.await());
+    handler.handle(client, job);
+    handler.handle(client, job);
+
+    // when
+    var third = CompletableFuture.runAsync(() -> handle(handler));
+
+    // then
+    Thread.sleep(200);
+    assertThat(third).isNotDone();
+    release.countDown();
+    third.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void shouldFailJobWhenHandlerThrows() throws Exception {
+    // given
+    var failCommand = mock(FailJobCommandStep1.class);
+    var failCommandStep2 = mock(FailJobCommandStep2.class, RETURNS_SELF);
+    when(job.getKey()).thenReturn(1L);
+    when(job.getRetries()).thenReturn(3);
+    when(client.newFailCommand(1L)).thenReturn(failCommand);
+    when(failCommand.retries(anyInt())).thenReturn(failCommandStep2);
+
+    // when
+    executor
+        .decorate(
+            (client, job) -> {
+              throw new IllegalStateException("expected");
+            })
+        .handle(client, job);
+
+    // then
+    verify(failCommand, timeout(5000)).retries(2);
+    verify(failCommandStep2, timeout(5000)).errorMessage(anyString());
+    verify(failCommandStep2, timeout(5000)).send();
+  }
+
+  @Test
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  void shouldRefuseVirtualThreadsBeforeJava21() {
+    assertThatThrownBy(() -> OutboundJobExecutor.virtualThreads(2))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Java 21");
+  }
+
+  private void handle(JobHandler handler) {
+    try {
+      handler.handle(client, job);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
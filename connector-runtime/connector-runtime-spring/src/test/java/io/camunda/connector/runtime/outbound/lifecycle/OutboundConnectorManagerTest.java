@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.camunda.zeebe.spring.client.annotation.value.ZeebeWorkerValue;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class OutboundConnectorManagerTest {
+
+  @Test
+  void shouldOpenStreamingWorker() {
+    // given
+    var client = mock(ZeebeClient.class);
+    var step1 = mock(JobWorkerBuilderStep1.class);
+    var step2 = mock(JobWorkerBuilderStep2.class);
+    var step3 = mock(JobWorkerBuilderStep3.class, RETURNS_SELF);
+    var handler = mock(JobHandler.class);
+    when(client.newWorker()).thenReturn(step1);
+    when(step1.jobType("io.camunda:test:1")).thenReturn(step2);
+    when(step2.handler(handler)).thenReturn(step3);
+    var workerValue =
+        new ZeebeWorkerValue()
+            .setName("test")
+            .setType("io.camunda:test:1")
+            .setMaxJobsActive(8)
+            .setFetchVariables(new String[] {"url"});
+
+    // when
+    OutboundConnectorManager.openStreamingWorker(
+        client, workerValue, handler, Duration.ofMinutes(5), mock(MetricsRecorder.class));
+
+    // then
+    verify(step3).streamEnabled(true);
+    verify(step3).streamTimeout(Duration.ofMinutes(5));
+    verify(step3).maxJobsActive(8);
+    verify(step3).fetchVariables(new String[] {"url"});
+    verify(step3, never()).pollInterval(any());
+    verify(step3).open();
+  }
+
+  @Test
+  void shouldRoundRequestTimeoutUpToWholeSeconds() {
+    assertThat(OutboundConnectorManager.toSecondsRoundingUp(Duration.ofMillis(500))).isEqualTo(1);
+    assertThat(OutboundConnectorManager.toSecondsRoundingUp(Duration.ofMillis(1500))).isEqualTo(2);
+    assertThat(OutboundConnectorManager.toSecondsRoundingUp(Duration.ofSeconds(30))).isEqualTo(30);
+  }
+
+  @Test
+  void shouldRejectNonPositiveRequestTimeout() {
+    assertThatThrownBy(() -> OutboundConnectorManager.toSecondsRoundingUp(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
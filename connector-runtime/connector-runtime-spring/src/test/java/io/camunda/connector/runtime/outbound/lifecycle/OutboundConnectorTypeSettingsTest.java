@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class OutboundConnectorTypeSettingsTest {
+
+  private static final String TYPE = "io.camunda:http-json:1";
+
+  @Test
+  void shouldReadSettingsOfType() {
+    // given
+    var env =
+        new MockEnvironment()
+            .withProperty("camunda.connector.outbound.io.camunda:http-json:1.max-jobs-active", "8")
+            .withProperty("camunda.connector.outbound.io.camunda:http-json:1.executor-threads", "4")
+            .withProperty("camunda.connector.outbound.io.camunda:http-json:1.poll-interval", "250")
+            .withProperty(
+                "camunda.connector.outbound.io.camunda:http-json:1.request-timeout", "PT30S")
+            .withProperty("camunda.connector.outbound.other.max-jobs-active", "1");
+
+    // when
+    var settings = OutboundConnectorTypeSettings.fromProperties(env, TYPE);
+
+    // then
+    assertThat(settings)
+        .isEqualTo(
+            new OutboundConnectorTypeSettings(
+                8, 4, Duration.ofMillis(250), Duration.ofSeconds(30)));
+  }
+
+  @Test
+  void shouldDefaultToNullWhenNotConfigured() {
+    // when
+    var settings = OutboundConnectorTypeSettings.fromProperties(new MockEnvironment(), TYPE);
+
+    // then
+    assertThat(settings).isEqualTo(OutboundConnectorTypeSettings.DEFAULT);
+  }
+
+  @Test
+  void shouldReadStreamSettingsWithGlobalDefaults() {
+    // given
+    var env =
+        new MockEnvironment()
+            .withProperty("camunda.connector.outbound.stream.enabled", "true")
+            .withProperty("camunda.connector.outbound.stream.timeout", "PT1H")
+            .withProperty("camunda.connector.outbound.io.camunda:other:1.stream-enabled", "false");
+
+    // when
+    var settings = OutboundConnectorTypeSettings.fromProperties(env, TYPE);
+    var otherSettings = OutboundConnectorTypeSettings.fromProperties(env, "io.camunda:other:1");
+
+    // then
+    assertThat(settings.streamEnabled()).isTrue();
+    assertThat(settings.streamTimeout()).isEqualTo(Duration.ofHours(1));
+    assertThat(otherSettings.streamEnabled()).isFalse();
+  }
+}
@@ -16,11 +16,13 @@
  */
 package io.camunda.connector.runtime;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /** Configuration properties for Camunda Connectors. */
 @ConfigurationProperties(prefix = "camunda.connector")
-public record ConnectorProperties(Polling polling, Webhook webhook, SecretProvider secretProvider) {
+public record ConnectorProperties(
+    Polling polling, Webhook webhook, SecretProvider secretProvider, Outbound outbound) {
   // NOTE: this class is not used in directly in the code, but is used by Spring Boot
   // configuration annotation processor to generate the configuration properties metadata
 
@@ -30,7 +32,10 @@ public record ConnectorProperties(Polling polling, Webhook webhook, SecretProvid
   /** Configuration for Operate polling that enables inbound Connectors. */
   public record Polling(boolean enabled, long interval) {}
 
-  public record SecretProvider(Discovery discovery, Environment environment) {}
+  public record SecretProvider(Discovery discovery, Environment environment, Cache cache) {}
+
+  /** Configuration for the cache of resolved secrets */
+  public record Cache(boolean enabled, Duration ttl, Duration negativeTtl, int maxSize) {}
 
   /** Configuration for the secret provider lookup */
   public record Discovery(boolean enabled) {}
@@ -39,4 +44,50 @@ public record ConnectorProperties(Polling polling, Webhook webhook, SecretProvid
    * Configuration for the {@link org.springframework.core.env.Environment} based secret provider
    */
   public record Environment(boolean enabled, String prefix) {}
+
+  /** Configuration for the execution of outbound connector jobs. */
+  public record Outbound(
+      Executor executor,
+      int maxConcurrentJobs,
+      Commands commands,
+      ResultCache resultCache,
+      CircuitBreaker circuitBreaker,
+      PhaseMetrics phaseMetrics,
+      Stream stream,
+      Async async) {}
+
+  /** Configuration for asynchronous outbound connectors. */
+  public record Async(int maxJobsInFlight) {}
+
+  /**
+   * Defaults for job streaming of outbound connector types, overridable per type via {@code
+   * camunda.connector.outbound.<type>.stream-enabled} and {@code stream-timeout}.
+   */
+  public record Stream(boolean enabled, Duration timeout) {}
+
+  /** Configuration for the metrics of the phases of outbound connector jobs. */
+  public record PhaseMetrics(boolean enabled) {}
+
+  /** Configuration for the circuit breaker per outbound connector type and target host. */
+  public record CircuitBreaker(
+      boolean enabled, int failureThreshold, Duration openDuration, Duration maxOpenDuration) {}
+
+  /**
+   * Configuration for the cache of outbound connector results, used by elements with a {@code
+   * resultCacheTtl} header.
+   */
+  public record ResultCache(boolean enabled, int maxSize) {}
+
+  /** Configuration for sending complete, fail and throw error commands of outbound jobs. */
+  public record Commands(
+      Pipeline pipeline, int maxInFlight, int maxQueued, int maxRetries, Duration retryBackoff) {}
+
+  public record Pipeline(boolean enabled) {}
+
+  public enum Executor {
+    /** Run jobs on the job worker threads of the Zeebe client */
+    ZEEBE,
+    /** Run each job on a new virtual thread */
+    VIRTUAL
+  }
 }
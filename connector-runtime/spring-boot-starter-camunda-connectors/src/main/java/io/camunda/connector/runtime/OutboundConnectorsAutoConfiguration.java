@@ -20,22 +20,41 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.runtime.core.ConnectorHelper;
+import io.camunda.connector.runtime.core.outbound.JobCommandPipeline;
+import io.camunda.connector.runtime.core.outbound.OutboundCircuitBreaker;
+import io.camunda.connector.runtime.core.outbound.OutboundResultCache;
+import io.camunda.connector.runtime.core.secret.CachingSecretProviderAggregator;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.secret.SecretProviderDiscovery;
 import io.camunda.connector.runtime.env.SpringEnvironmentSecretProvider;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Feel;
+import io.camunda.connector.runtime.metrics.FeelExpressionCacheMetrics;
+import io.camunda.connector.runtime.metrics.SecretCacheMetrics;
 import io.camunda.connector.runtime.outbound.OutboundConnectorRuntimeConfiguration;
+import io.camunda.connector.runtime.outbound.jobhandling.CircuitBreakerMetrics;
+import io.camunda.connector.runtime.outbound.jobhandling.JobCommandMetrics;
+import io.camunda.connector.runtime.outbound.jobhandling.JobPhaseMetrics;
+import io.camunda.connector.runtime.outbound.jobhandling.OutboundJobExecutor;
+import io.camunda.connector.runtime.outbound.jobhandling.ResultCacheMetrics;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
@@ -52,6 +71,45 @@ public class OutboundConnectorsAutoConfiguration {
   @Value("${camunda.connector.secretprovider.environment.prefix:}")
   String environmentSecretProviderPrefix;
 
+  @Value("${camunda.connector.secretprovider.cache.enabled:true}")
+  boolean secretCacheEnabled;
+
+  @Value("${camunda.connector.secretprovider.cache.ttl:PT1M}")
+  Duration secretCacheTtl;
+
+  @Value("${camunda.connector.secretprovider.cache.negative-ttl:PT10S}")
+  Duration secretCacheNegativeTtl;
+
+  @Value("${camunda.connector.secretprovider.cache.max-size:1000}")
+  int secretCacheMaxSize;
+
+  @Value("${camunda.connector.outbound.max-concurrent-jobs:1000}")
+  int maxConcurrentOutboundJobs;
+
+  @Value("${camunda.connector.outbound.commands.max-in-flight:1000}")
+  int maxInFlightCommands;
+
+  @Value("${camunda.connector.outbound.commands.max-queued:10000}")
+  int maxQueuedCommands;
+
+  @Value("${camunda.connector.outbound.commands.max-retries:3}")
+  int maxCommandRetries;
+
+  @Value("${camunda.connector.outbound.commands.retry-backoff:PT0.1S}")
+  Duration commandRetryBackoff;
+
+  @Value("${camunda.connector.outbound.result-cache.max-size:1000}")
+  int resultCacheMaxSize;
+
+  @Value("${camunda.connector.outbound.circuit-breaker.failure-threshold:5}")
+  int circuitBreakerFailureThreshold;
+
+  @Value("${camunda.connector.outbound.circuit-breaker.open-duration:PT10S}")
+  Duration circuitBreakerOpenDuration;
+
+  @Value("${camunda.connector.outbound.circuit-breaker.max-open-duration:PT5M}")
+  Duration circuitBreakerMaxOpenDuration;
+
   private static final Logger LOG =
       LoggerFactory.getLogger(OutboundConnectorsAutoConfiguration.class);
 
@@ -62,10 +120,25 @@ public class OutboundConnectorsAutoConfiguration {
     return new FeelEngineWrapper();
   }
 
+  /**
+   * Publishes the metrics of the caches of parsed expressions, of the runtime FEEL engine and of
+   * the one evaluating result and error expressions.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public FeelExpressionCacheMetrics feelExpressionCacheMetrics(FeelEngineWrapper feelEngine) {
+    return new FeelExpressionCacheMetrics(
+        Map.of(
+            Feel.ENGINE_RUNTIME,
+            feelEngine,
+            Feel.ENGINE_CONNECTOR_HELPER,
+            ConnectorHelper.FEEL_ENGINE_WRAPPER));
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public SecretProviderAggregator springSecretProviderAggregator(
-      Optional<List<SecretProvider>> secretProviderBeans) {
+      Optional<List<SecretProvider>> secretProviderBeans, MetricsRecorder metricsRecorder) {
     var secretProviders = secretProviderBeans.orElseGet(LinkedList::new);
     LOG.debug("Using secret providers discovered as Spring beans: {}", secretProviderBeans);
     if (secretProviderLookupEnabled != Boolean.FALSE) {
@@ -73,6 +146,14 @@ public class OutboundConnectorsAutoConfiguration {
       LOG.debug("Using secret providers discovered by lookup: {}", discoveredSecretProviders);
       secretProviders.addAll(discoveredSecretProviders);
     }
+    if (secretCacheEnabled) {
+      return new CachingSecretProviderAggregator(
+          secretProviders,
+          secretCacheTtl,
+          secretCacheNegativeTtl,
+          secretCacheMaxSize,
+          new SecretCacheMetrics(metricsRecorder));
+    }
     return new SecretProviderAggregator(secretProviders);
   }
 
@@ -85,6 +166,72 @@ public class OutboundConnectorsAutoConfiguration {
     return new SpringEnvironmentSecretProvider(environment, environmentSecretProviderPrefix);
   }
 
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(name = "camunda.connector.outbound.executor", havingValue = "virtual")
+  public OutboundJobExecutor outboundJobExecutor() {
+    return OutboundJobExecutor.virtualThreads(maxConcurrentOutboundJobs);
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(
+      name = "camunda.connector.outbound.commands.pipeline.enabled",
+      havingValue = "true")
+  public JobCommandPipeline jobCommandPipeline(MetricsRecorder metricsRecorder) {
+    return new JobCommandPipeline(
+        maxInFlightCommands,
+        maxQueuedCommands,
+        maxCommandRetries,
+        commandRetryBackoff,
+        new JobCommandMetrics(metricsRecorder));
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(
+      name = "camunda.connector.outbound.result-cache.enabled",
+      havingValue = "true")
+  public OutboundResultCache outboundResultCache(MetricsRecorder metricsRecorder) {
+    return new OutboundResultCache(resultCacheMaxSize, new ResultCacheMetrics(metricsRecorder));
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(
+      name = "camunda.connector.outbound.circuit-breaker.enabled",
+      havingValue = "true")
+  public OutboundCircuitBreaker outboundCircuitBreaker(MetricsRecorder metricsRecorder) {
+    return new OutboundCircuitBreaker(
+        circuitBreakerFailureThreshold,
+        circuitBreakerOpenDuration,
+        circuitBreakerMaxOpenDuration,
+        new CircuitBreakerMetrics(metricsRecorder));
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(
+      name = "camunda.connector.outbound.phase-metrics.enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public JobPhaseMetrics jobPhaseMetrics(MetricsRecorder metricsRecorder) {
+    return new JobPhaseMetrics(metricsRecorder);
+  }
+
+  /**
+   * Shuts the runtime down once it is started. Used to record the classes loaded on startup in a
+   * class data sharing archive, see the {@code appcds} Maven profile.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "camunda.connector.startup.training-run", havingValue = "true")
+  public ApplicationListener<ApplicationReadyEvent> trainingRunShutdown() {
+    return event -> {
+      LOG.info("Training run completed, shutting down");
+      System.exit(SpringApplication.exit(event.getApplicationContext()));
+    };
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public ObjectMapper objectMapper() {
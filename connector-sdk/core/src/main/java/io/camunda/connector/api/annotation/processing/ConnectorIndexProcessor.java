@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.annotation.processing;
+
+import io.camunda.connector.api.annotation.InboundConnector;
+import io.camunda.connector.api.annotation.OutboundConnector;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing the connector index, a list of all classes annotated with {@link
+ * OutboundConnector} or {@link InboundConnector} in a compilation unit together with their
+ * annotation values.
+ *
+ * <p>The runtime reads connector meta-data from the index instead of reflecting over each connector
+ * class on startup. Connectors missing from the index, e.g. because they were compiled without the
+ * processor, are still discovered through their annotations.
+ *
+ * <p>The processor is not registered as a service and only runs when configured explicitly, e.g.
+ * with Maven:
+ *
+ * <pre>{@code
+ * <plugin>
+ *   <artifactId>maven-compiler-plugin</artifactId>
+ *   <configuration>
+ *     <annotationProcessorPaths>
+ *       <path>
+ *         <groupId>io.camunda.connector</groupId>
+ *         <artifactId>connector-core</artifactId>
+ *         <version>${version.connectors}</version>
+ *       </path>
+ *     </annotationProcessorPaths>
+ *     <annotationProcessors>
+ *       <annotationProcessor>
+ *         io.camunda.connector.api.annotation.processing.ConnectorIndexProcessor
+ *       </annotationProcessor>
+ *     </annotationProcessors>
+ *   </configuration>
+ * </plugin>
+ * }</pre>
+ *
+ * <p>An incremental compilation only sees the changed classes, so the entries of an existing index
+ * are kept for connector classes that are not part of the compilation but still exist.
+ *
+ * <p>The index is written to {@value #INDEX_RESOURCE}, one connector per line:
+ *
+ * <pre>
+ * outbound&lt;TAB&gt;class name&lt;TAB&gt;type&lt;TAB&gt;name&lt;TAB&gt;comma separated input variables
+ * inbound&lt;TAB&gt;class name&lt;TAB&gt;type&lt;TAB&gt;name
+ * </pre>
+ */
+public class ConnectorIndexProcessor extends AbstractProcessor {
+
+  public static final String INDEX_RESOURCE = "META-INF/camunda/connectors.index";
+  public static final String OUTBOUND = "outbound";
+  public static final String INBOUND = "inbound";
+  public static final String FIELD_SEPARATOR = "\t";
+  public static final String VARIABLE_SEPARATOR = ",";
+
+  static final String OUTBOUND_FUNCTION =
+      "io.camunda.connector.api.outbound.OutboundConnectorFunction";
+  static final String INBOUND_EXECUTABLE =
+      "io.camunda.connector.api.inbound.InboundConnectorExecutable";
+
+  /** Index lines by class name, sorted to keep the index reproducible */
+  private final TreeMap<String, String> entries = new TreeMap<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Set.of(OutboundConnector.class.getName(), InboundConnector.class.getName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeIndex();
+      return false;
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(OutboundConnector.class)) {
+      var annotation = element.getAnnotation(OutboundConnector.class);
+      indexConnector(
+          element,
+          OUTBOUND_FUNCTION,
+          List.of(
+              OUTBOUND,
+              annotation.type(),
+              annotation.name(),
+              String.join(VARIABLE_SEPARATOR, annotation.inputVariables())),
+          List.of(annotation.inputVariables()));
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(InboundConnector.class)) {
+      var annotation = element.getAnnotation(InboundConnector.class);
+      indexConnector(
+          element,
+          INBOUND_EXECUTABLE,
+          List.of(INBOUND, annotation.type(), annotation.name()),
+          List.of());
+    }
+    return false;
+  }
+
+  private void indexConnector(
+      Element element, String requiredInterface, List<String> values, List<String> variables) {
+    if (!(element instanceof TypeElement type) || !isConnectorClass(type, requiredInterface)) {
+      note(element, "not a concrete class implementing " + requiredInterface);
+      return;
+    }
+    if (values.stream().anyMatch(ConnectorIndexProcessor::containsLineBreakOrTab)
+        || variables.stream().anyMatch(variable -> variable.contains(VARIABLE_SEPARATOR))) {
+      note(element, "annotation values cannot be represented in the index");
+      return;
+    }
+    var className = processingEnv.getElementUtils().getBinaryName(type).toString();
+    var fields = new ArrayList<String>();
+    fields.add(values.get(0));
+    fields.add(className);
+    fields.addAll(values.subList(1, values.size()));
+    entries.put(className, String.join(FIELD_SEPARATOR, fields));
+  }
+
+  private boolean isConnectorClass(TypeElement type, String requiredInterface) {
+    var connectorInterface = processingEnv.getElementUtils().getTypeElement(requiredInterface);
+    var types = processingEnv.getTypeUtils();
+    return type.getKind() == ElementKind.CLASS
+        && !type.getModifiers().contains(Modifier.ABSTRACT)
+        && connectorInterface != null
+        && types.isAssignable(
+            types.erasure(type.asType()), types.erasure(connectorInterface.asType()));
+  }
+
+  private static boolean containsLineBreakOrTab(String value) {
+    return value.contains(FIELD_SEPARATOR) || value.contains("\n") || value.contains("\r");
+  }
+
+  private void writeIndex() {
+    readExistingIndex();
+    if (entries.isEmpty()) {
+      return;
+    }
+    try {
+      var resource =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+      try (Writer writer =
+          new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+        for (var line : entries.values()) {
+          writer.write(line);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING, "Unable to write connector index: " + e.getMessage());
+    }
+  }
+
+  /** Keeps the entries of connectors compiled before that still exist and were not indexed now. */
+  private void readExistingIndex() {
+    List<String> lines;
+    try {
+      var resource =
+          processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+      try (var reader =
+          new BufferedReader(
+              new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+        lines = reader.lines().toList();
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // no index yet
+      return;
+    }
+    for (var line : lines) {
+      var fields = line.split(FIELD_SEPARATOR, -1);
+      if (fields.length < 2 || entries.containsKey(fields[1])) {
+        continue;
+      }
+      var type = processingEnv.getElementUtils().getTypeElement(fields[1].replace('$', '.'));
+      if (type != null
+          && (type.getAnnotation(OutboundConnector.class) != null
+              || type.getAnnotation(InboundConnector.class) != null)) {
+        entries.put(fields[1], line);
+      }
+    }
+  }
+
+  private void note(Element element, String reason) {
+    processingEnv
+        .getMessager()
+        .printMessage(Diagnostic.Kind.NOTE, "Connector not added to the index, " + reason, element);
+  }
+}
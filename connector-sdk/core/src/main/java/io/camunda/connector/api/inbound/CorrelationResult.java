@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.inbound;
+
+import java.util.Optional;
+
+/**
+ * Outcome of the correlation of an inbound event, see {@link
+ * InboundConnectorContext#correlateAsync(Object)}.
+ */
+public interface CorrelationResult {
+
+  /** Whether the event activated the Connector, e.g. started a process or published a message */
+  boolean isActivated();
+
+  /**
+   * Information about the activated target, e.g. the key of the published message. Only present
+   * when {@link #isActivated()} returns true.
+   */
+  Optional<?> getResponseData();
+
+  /**
+   * Reason why the event did not activate the Connector, e.g. an activation condition that was not
+   * met. Only present when {@link #isActivated()} returns false.
+   */
+  Optional<?> getErrorData();
+}
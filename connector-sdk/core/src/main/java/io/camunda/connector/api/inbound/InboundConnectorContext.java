@@ -17,6 +17,8 @@
 package io.camunda.connector.api.inbound;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * The context object provided to an inbound connector function. The context allows to fetch
@@ -41,6 +43,33 @@ public interface InboundConnectorContext {
    */
   void correlate(Object variables);
 
+  /**
+   * Correlates the inbound event to the matching process definition without waiting for Zeebe.
+   * Allows to keep several correlations in flight, e.g. to acknowledge consumed messages once their
+   * correlation completed.
+   *
+   * <p>Correlation may not succeed due to Connector configuration (e.g. if activation condition
+   * specified by user is not met). In this case, the result will contain error details.
+   *
+   * <p>The returned stage completes exceptionally in the same cases in which {@link
+   * #correlate(Object)} throws an exception.
+   *
+   * <p>The default implementation calls {@link #correlate(Object)} on the calling thread. As that
+   * method reports no result, the stage completes with {@code null}. Runtimes override this method
+   * to complete with the actual result once Zeebe responded.
+   *
+   * @param variables - an object containing inbound connector variables
+   * @return a stage that completes with the result of the correlation
+   */
+  default CompletionStage<CorrelationResult> correlateAsync(Object variables) {
+    try {
+      correlate(variables);
+      return CompletableFuture.completedFuture(null);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Signals to the Connector runtime that inbound Connector execution was interrupted. As a result
    * of this call, the runtime may attempt to retry the execution or provide the user with an
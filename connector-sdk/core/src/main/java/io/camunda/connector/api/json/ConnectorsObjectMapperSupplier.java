@@ -18,27 +18,83 @@ package io.camunda.connector.api.json;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.camunda.connector.feel.jackson.JacksonModuleFeelFunction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-/** Default ObjectMapper supplier to be used by the connector runtime. */
+/**
+ * Default ObjectMapper supplier to be used by the connector runtime.
+ *
+ * <p>Prefer the {@link #DEFAULT_MAPPER} or the shared {@link #getReader(Class) readers} over {@link
+ * #getCopy() copies}: a copy starts with empty serializer and deserializer caches, so each copy
+ * pays the cost of introspecting the types it handles again.
+ *
+ * <p>Set the system property {@value #BLACKBIRD_ENABLED_PROPERTY} to {@code true} to register the
+ * Jackson Blackbird module in the {@link #DEFAULT_MAPPER}, which replaces reflective property
+ * access with generated accessors. The module must be on the classpath.
+ */
 public class ConnectorsObjectMapperSupplier {
 
+  public static final String BLACKBIRD_ENABLED_PROPERTY = "camunda.connector.jackson.blackbird";
+
+  static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectorsObjectMapperSupplier.class);
+
   private ConnectorsObjectMapperSupplier() {}
 
   public static ObjectMapper DEFAULT_MAPPER =
       JsonMapper.builder()
           .addModules(new JacksonModuleFeelFunction(), new Jdk8Module(), new JavaTimeModule())
+          .addModules(optionalModules(System.getProperty(BLACKBIRD_ENABLED_PROPERTY)))
           .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
           .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
           .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
           .build();
 
+  private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+  /**
+   * @return a new copy of the {@link #DEFAULT_MAPPER}, to be used when the configuration needs to
+   *     be changed. Create copies once and keep them, not per call.
+   */
   public static ObjectMapper getCopy() {
     return DEFAULT_MAPPER.copy();
   }
+
+  /**
+   * Returns a shared reader for the given type, configured like the {@link #DEFAULT_MAPPER}.
+   * Readers are immutable and thread-safe, and reuse the deserializer caches of the mapper.
+   *
+   * @param type the type to read
+   * @return the reader for the given type
+   */
+  public static ObjectReader getReader(Class<?> type) {
+    return READERS.computeIfAbsent(type, DEFAULT_MAPPER::readerFor);
+  }
+
+  static Module[] optionalModules(String blackbirdEnabled) {
+    if (!Boolean.parseBoolean(blackbirdEnabled)) {
+      return new Module[0];
+    }
+    try {
+      var module = Class.forName(BLACKBIRD_MODULE).getConstructor().newInstance();
+      return new Module[] {(Module) module};
+    } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+      LOG.warn(
+          "Jackson Blackbird is enabled with {}, but the module cannot be loaded, using reflective access",
+          BLACKBIRD_ENABLED_PROPERTY,
+          e);
+      return new Module[0];
+    }
+  }
 }
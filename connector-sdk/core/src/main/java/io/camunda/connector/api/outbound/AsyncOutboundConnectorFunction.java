@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.outbound;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Variant of the {@link OutboundConnectorFunction} for connectors that talk to remote systems using
+ * non-blocking clients. Instead of holding a thread until the remote system answers, the connector
+ * returns a {@link CompletionStage} and the environment-specific runtime completes the job once the
+ * stage completes.
+ */
+public interface AsyncOutboundConnectorFunction extends OutboundConnectorFunction {
+
+  /**
+   * Starts the connector's central logic. The connector will receive a context object that allows
+   * to fetch objects provided by the environment transparently.
+   *
+   * <p>The returned stage can complete with any serializable object that will be passed to the
+   * environment-specific runtime. Completing the stage exceptionally has the same effect as
+   * throwing from {@link OutboundConnectorFunction#execute(OutboundConnectorContext)}.
+   *
+   * @param context - allows to fetch information injected by the environment runtime
+   * @return stage completing with the result of the connector function, can complete with <code>
+   *     null</code>
+   */
+  CompletionStage<Object> executeAsync(OutboundConnectorContext context);
+
+  /**
+   * Blocks until the stage returned by {@link #executeAsync(OutboundConnectorContext)} completes.
+   * Runtimes that support asynchronous connectors call {@link
+   * #executeAsync(OutboundConnectorContext)} directly.
+   */
+  @Override
+  default Object execute(OutboundConnectorContext context) throws Exception {
+    try {
+      return executeAsync(context).toCompletableFuture().get();
+    } catch (ExecutionException | CompletionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -16,6 +16,10 @@
  */
 package io.camunda.connector.api.secret;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Provider of secrets for an environment. This class will be instantiated from an environment
  * runtime according to the <a
@@ -30,4 +34,24 @@ public interface SecretProvider {
    *     returned.
    */
   String getSecret(String name);
+
+  /**
+   * Resolves several secrets at once. The runtime uses this method to resolve all secrets
+   * referenced by a connector at once, so providers backed by a remote secret store should override
+   * it to fetch the secrets in a single round trip.
+   *
+   * @param names - the secrets' names to find values for
+   * @return the values of the secrets that exist, by name. Names without a value are not contained
+   *     in the result.
+   */
+  default Map<String, String> getSecrets(Set<String> names) {
+    Map<String, String> secrets = new HashMap<>();
+    for (String name : names) {
+      String secret = getSecret(name);
+      if (secret != null) {
+        secrets.put(name, secret);
+      }
+    }
+    return secrets;
+  }
 }
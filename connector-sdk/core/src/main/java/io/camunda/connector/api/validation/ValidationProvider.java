@@ -17,6 +17,8 @@
 
 package io.camunda.connector.api.validation;
 
+import java.util.Collection;
+
 /**
  * Provider of validation for an environment. This class will be instantiated from an environment
  * runtime according to the <a
@@ -30,4 +32,13 @@ public interface ValidationProvider {
    * @param objectToValidate the object the validation should run for
    */
   void validate(Object objectToValidate);
+
+  /**
+   * Prepares the validation of the given types before the first object is validated, e.g. by
+   * introspecting their constraints. Runtimes call this at startup with the input types of the
+   * connectors they know. Does nothing by default.
+   *
+   * @param types the types of objects that will be validated
+   */
+  default void warmUp(Collection<Class<?>> types) {}
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import io.camunda.connector.api.error.ConnectorInputException;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+class InboundConnectorContextTest {
+
+  private final InboundConnectorContext context =
+      mock(InboundConnectorContext.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+
+  @Test
+  void shouldCorrelateAsyncThroughCorrelate() {
+    // given
+    var variables = Map.of("key", "value");
+    doNothing().when(context).correlate(any());
+
+    // when
+    var result = context.correlateAsync(variables).toCompletableFuture().join();
+
+    // then
+    verify(context).correlate(variables);
+    assertThat(result).isNull();
+  }
+
+  @Test
+  void shouldFailStageWhenCorrelateThrows() {
+    // given
+    var failure = new ConnectorInputException(new IllegalArgumentException("invalid"));
+    doThrow(failure).when(context).correlate(any());
+
+    // when
+    var stage = context.correlateAsync(Map.of()).toCompletableFuture();
+
+    // then
+    assertThat(stage).isCompletedExceptionally();
+    assertThatThrownBy(stage::join).isInstanceOf(CompletionException.class).hasCause(failure);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConnectorsObjectMapperSupplierTest {
+
+  public enum Method {
+    GET,
+    POST
+  }
+
+  public record Request(Method method, String url) {}
+
+  @Test
+  void shouldShareReaderPerType() {
+    // when
+    var reader = ConnectorsObjectMapperSupplier.getReader(Request.class);
+
+    // then
+    assertThat(ConnectorsObjectMapperSupplier.getReader(Request.class)).isSameAs(reader);
+    assertThat(ConnectorsObjectMapperSupplier.getReader(Map.class)).isNotSameAs(reader);
+  }
+
+  @Test
+  void shouldReadLikeDefaultMapper() throws Exception {
+    // given
+    var json = "{\"method\":\"post\",\"url\":\"https://example.com\",\"unknown\":1}";
+
+    // when
+    Request request = ConnectorsObjectMapperSupplier.getReader(Request.class).readValue(json);
+
+    // then
+    assertThat(request).isEqualTo(new Request(Method.POST, "https://example.com"));
+    assertThat(request)
+        .isEqualTo(ConnectorsObjectMapperSupplier.DEFAULT_MAPPER.readValue(json, Request.class));
+  }
+
+  @Test
+  void shouldNotRegisterBlackbirdUnlessEnabled() {
+    assertThat(ConnectorsObjectMapperSupplier.optionalModules(null)).isEmpty();
+    assertThat(ConnectorsObjectMapperSupplier.optionalModules("false")).isEmpty();
+  }
+
+  @Test
+  void shouldFallBackToReflectiveAccessWhenBlackbirdIsMissing() {
+    assertThat(ConnectorsObjectMapperSupplier.optionalModules("true")).isEmpty();
+  }
+}
@@ -17,18 +17,17 @@
 package io.camunda.connector.feel;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.module.scala.DefaultScalaModule$;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.camunda.feel.FeelEngine;
+import org.camunda.feel.context.Context;
 import org.camunda.feel.impl.JavaValueMapper;
+import org.camunda.feel.syntaxtree.ParsedExpression;
 import scala.collection.Iterable;
 import scala.jdk.javaapi.CollectionConverters;
 
@@ -38,10 +37,13 @@ public class FeelEngineWrapper {
   static final String RESPONSE_MAP_KEY = "response";
   static final String ERROR_CONTEXT_IS_NULL = "Context is null";
 
-  static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+  /** Number of parsed expressions kept by default */
+  public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 1000;
 
   private final FeelEngine feelEngine;
   private final ObjectMapper objectMapper;
+  private final ParsedExpressionCache expressionCache;
+  private final JavaResultConverter javaResultConverter;
 
   /**
    * Default constructor, creating an {@link ObjectMapper} and a {@link FeelEngine} with default
@@ -58,6 +60,8 @@ public class FeelEngineWrapper {
             .registerModule(DefaultScalaModule$.MODULE$)
             // deserialize unknown types as empty objects
             .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    this.expressionCache = new ParsedExpressionCache(DEFAULT_EXPRESSION_CACHE_SIZE);
+    this.javaResultConverter = new JavaResultConverter(objectMapper);
   }
 
   /**
@@ -68,8 +72,31 @@ public class FeelEngineWrapper {
    * @param objectMapper the object mapper to use
    */
   public FeelEngineWrapper(final FeelEngine feelEngine, final ObjectMapper objectMapper) {
+    this(feelEngine, objectMapper, DEFAULT_EXPRESSION_CACHE_SIZE);
+  }
+
+  /**
+   * Injection constructor allowing to pass in the {@link FeelEngine} and {@link ObjectMapper} to
+   * use, and to size the cache of parsed expressions.
+   *
+   * @param feelEngine the FEEL engine to use
+   * @param objectMapper the object mapper to use
+   * @param expressionCacheSize the maximum number of parsed expressions to cache, 0 disables the
+   *     cache
+   */
+  public FeelEngineWrapper(
+      final FeelEngine feelEngine, final ObjectMapper objectMapper, final int expressionCacheSize) {
     this.feelEngine = feelEngine;
     this.objectMapper = objectMapper;
+    this.expressionCache = new ParsedExpressionCache(expressionCacheSize);
+    this.javaResultConverter = new JavaResultConverter(objectMapper);
+  }
+
+  /**
+   * @return hit, miss and eviction counts of the cache of parsed expressions
+   */
+  public ParsedExpressionCache.Statistics getExpressionCacheStatistics() {
+    return expressionCache.getStatistics();
   }
 
   private static String trimExpression(final String expression) {
@@ -80,17 +107,29 @@ public class FeelEngineWrapper {
     return feelExpression.trim();
   }
 
-  private static scala.collection.immutable.Map<String, Object> toScalaMap(
-      final Map<String, Object> responseMap) {
-    final HashMap<String, Object> context = new HashMap<>(responseMap);
-    context.put(RESPONSE_MAP_KEY, responseMap);
-    return scala.collection.immutable.Map.from(CollectionConverters.asScala(context));
+  /**
+   * Prepares the variables for the evaluation of several expressions. The returned context can be
+   * passed to the evaluation methods in place of the variables, the variables are then converted
+   * only once for all of these evaluations.
+   *
+   * @param variables the variables to use in evaluation
+   * @return the variables prepared for evaluation
+   */
+  public PreparedContext prepareContext(final Object variables) {
+    if (variables instanceof PreparedContext preparedContext) {
+      return preparedContext;
+    }
+    return new PreparedContext(variables, RESPONSE_MAP_KEY, objectMapper);
   }
 
-  private Map<String, Object> ensureVariablesMap(final Object variables) {
+  private Context toContext(final Object variables) {
     try {
       Objects.requireNonNull(variables, ERROR_CONTEXT_IS_NULL);
-      return objectMapper.convertValue(variables, MAP_TYPE_REFERENCE);
+      if (variables instanceof PreparedContext preparedContext) {
+        Objects.requireNonNull(preparedContext.getVariables(), ERROR_CONTEXT_IS_NULL);
+        return preparedContext.context();
+      }
+      return LazyContext.root(variables, RESPONSE_MAP_KEY, objectMapper);
     } catch (IllegalArgumentException ex) {
       throw new IllegalArgumentException(
           String.format("Unable to parse '%s' as context", variables), ex);
@@ -100,17 +139,17 @@ public class FeelEngineWrapper {
   @SuppressWarnings("unchecked")
   private <T> T sanitizeScalaOutput(T output) {
     if (output instanceof scala.collection.Map<?, ?> scalaMap) {
-      return (T)
-          CollectionConverters.asJava(scalaMap).entrySet().stream()
-              .collect(
-                  HashMap::new,
-                  (m, v) -> m.put(v.getKey(), sanitizeScalaOutput(v.getValue())),
-                  HashMap::putAll);
+      var result = new HashMap<Object, Object>();
+      for (var entry : CollectionConverters.asJava(scalaMap).entrySet()) {
+        result.put(entry.getKey(), sanitizeScalaOutput(entry.getValue()));
+      }
+      return (T) result;
     } else if (output instanceof Iterable<?> scalaIterable) {
-      return (T)
-          StreamSupport.stream(CollectionConverters.asJava(scalaIterable).spliterator(), false)
-              .map(this::sanitizeScalaOutput)
-              .collect(Collectors.toList());
+      var result = new ArrayList<Object>();
+      for (var element : CollectionConverters.asJava(scalaIterable)) {
+        result.add(sanitizeScalaOutput(element));
+      }
+      return (T) result;
     } else return output;
   }
 
@@ -159,11 +198,39 @@ public class FeelEngineWrapper {
     }
   }
 
+  /**
+   * Evaluates an expression to plain Java maps, lists, strings, numbers and booleans, without going
+   * through a JSON string. The result equals reading the JSON representation of the evaluation
+   * result as {@link Object}.
+   *
+   * @param expression the expression to evaluate
+   * @param variables the variables to use in evaluation
+   * @return the evaluation result converted to plain Java values
+   * @throws FeelEngineWrapperException when there is an exception message as a result of the
+   *     evaluation or the result cannot be converted
+   */
+  public Object evaluateToJava(final String expression, final Object variables) {
+    try {
+      return javaResultConverter.toJava(evaluateInternal(expression, variables));
+    } catch (Exception e) {
+      throw new FeelEngineWrapperException(e.getMessage(), expression, variables, e);
+    }
+  }
+
   private Object evaluateInternal(final String expression, final Object variables) {
-    var variablesAsMap = ensureVariablesMap(variables);
-    var variablesAsMapAsScalaMap = toScalaMap(variablesAsMap);
+    var context = toContext(variables);
+
+    var parsedExpression = expressionCache.get(trimExpression(expression), this::parse);
+    var result = feelEngine.eval(parsedExpression, context);
+    if (result.isRight()) {
+      return result.right().get();
+    } else {
+      throw new RuntimeException(result.left().get().message());
+    }
+  }
 
-    var result = feelEngine.evalExpression(trimExpression(expression), variablesAsMapAsScalaMap);
+  private ParsedExpression parse(final String expression) {
+    var result = feelEngine.parseExpression(expression);
     if (result.isRight()) {
       return result.right().get();
     } else {
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Converts FEEL evaluation results into plain Java maps, lists, strings, numbers and booleans.
+ *
+ * <p>The result is the same as serializing the value to JSON and reading it back as {@link Object}:
+ * integral numbers become the smallest of {@link Integer}, {@link Long} and {@link BigInteger} that
+ * fits, decimals become {@link Double}, and map keys become strings. Values of other types are
+ * converted with the {@link ObjectMapper}.
+ */
+final class JavaResultConverter {
+
+  private final ObjectMapper objectMapper;
+
+  JavaResultConverter(final ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  Object toJava(final Object value) {
+    if (value == null || value instanceof String || value instanceof Boolean) {
+      return value;
+    }
+    if (value instanceof Number number) {
+      return toJava(number);
+    }
+    if (value instanceof Map<?, ?> map) {
+      Map<String, Object> result = new LinkedHashMap<>((int) (map.size() / 0.75f) + 1);
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        result.put(String.valueOf(entry.getKey()), toJava(entry.getValue()));
+      }
+      return result;
+    }
+    if (value instanceof scala.collection.Map<?, ?> scalaMap) {
+      return toJava(CollectionConverters.asJava(scalaMap));
+    }
+    if (value instanceof Iterable<?> iterable) {
+      List<Object> result = new ArrayList<>();
+      for (Object element : iterable) {
+        result.add(toJava(element));
+      }
+      return result;
+    }
+    if (value instanceof scala.collection.Iterable<?> scalaIterable) {
+      return toJava(CollectionConverters.asJava(scalaIterable));
+    }
+    return toJava(objectMapper.convertValue(value, Object.class));
+  }
+
+  private static Object toJava(final Number number) {
+    if (number instanceof Integer || number instanceof Double) {
+      return number;
+    }
+    if (number instanceof Long || number instanceof Short || number instanceof Byte) {
+      return narrow(number.longValue());
+    }
+    if (number instanceof Float) {
+      return Double.parseDouble(number.toString());
+    }
+    if (number instanceof BigInteger bigInteger) {
+      return narrow(bigInteger);
+    }
+    if (number instanceof BigDecimal bigDecimal) {
+      // mirror the JSON representation, which is integral only without fraction or exponent
+      var text = bigDecimal.toString();
+      if (text.indexOf('.') < 0 && text.indexOf('E') < 0) {
+        return narrow(new BigInteger(text));
+      }
+      return bigDecimal.doubleValue();
+    }
+    return number;
+  }
+
+  private static Object narrow(final long value) {
+    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+      return (int) value;
+    }
+    return value;
+  }
+
+  private static Object narrow(final BigInteger value) {
+    if (value.bitLength() < Long.SIZE) {
+      return narrow(value.longValue());
+    }
+    return value;
+  }
+}
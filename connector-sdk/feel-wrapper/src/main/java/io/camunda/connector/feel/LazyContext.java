@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.camunda.feel.context.CustomContext;
+import org.camunda.feel.context.VariableProvider;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValContext;
+import org.camunda.feel.syntaxtree.ValList;
+import org.camunda.feel.valuemapper.ValueMapper;
+import scala.Option;
+import scala.Some;
+import scala.collection.Iterable;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * FEEL context that reads a Java {@link Map} or a Jackson {@link JsonNode} on demand instead of
+ * copying it into a Scala map up front. Nested maps and objects are exposed as lazy contexts as
+ * well, so an expression only converts the values along the paths it actually reads.
+ *
+ * <p>Values that are neither JSON-like nor understood by the FEEL value mapper (POJOs, enums,
+ * dates, arrays) are converted with {@link ObjectMapper#valueToTree(Object)} when they are read,
+ * matching the result of the previous {@code convertValue} based approach. Converted values are
+ * kept, so that a context shared by several evaluations converts every value at most once, see
+ * {@link PreparedContext}.
+ */
+class LazyContext extends CustomContext {
+
+  private final VariableProvider variableProvider;
+
+  private LazyContext(VariableProvider variableProvider) {
+    this.variableProvider = variableProvider;
+  }
+
+  /**
+   * Creates the root context for an evaluation. All entries of the given variables are available by
+   * name, and the variables themselves are additionally available as {@code response}.
+   */
+  static LazyContext root(Object variables, String responseKey, ObjectMapper objectMapper) {
+    var converter = new Converter(objectMapper);
+    var root = variables;
+    if (!(root instanceof Map<?, ?>) && !(root instanceof JsonNode)) {
+      root = objectMapper.valueToTree(root);
+    }
+    if (root instanceof JsonNode node && !node.isObject()) {
+      throw new IllegalArgumentException(
+          "Variables must be a map or an object, but got: " + variables);
+    }
+    var response = (ValContext) converter.toFeel(root);
+    var provider = response.context().variableProvider();
+    return new LazyContext(new WithResponse(provider, responseKey, response));
+  }
+
+  @Override
+  public VariableProvider variableProvider() {
+    return variableProvider;
+  }
+
+  private record Converter(ObjectMapper objectMapper) {
+
+    private static final ValueMapper SCALAR_MAPPER = ValueMapper.defaultValueMapper();
+
+    Val toFeel(Object value) {
+      if (value instanceof Val val) {
+        return val;
+      }
+      if (value == null || isPlainValue(value)) {
+        return SCALAR_MAPPER.toVal(value);
+      }
+      if (value instanceof Map<?, ?> map) {
+        return new ValContext(new LazyContext(new MapVariables(map, this)));
+      }
+      if (value instanceof Collection<?> collection) {
+        List<Val> items = new ArrayList<>(collection.size());
+        for (Object element : collection) {
+          items.add(toFeel(element));
+        }
+        return toValList(items);
+      }
+      if (value instanceof JsonNode node) {
+        return toFeel(node);
+      }
+      return toFeel((JsonNode) objectMapper.valueToTree(value));
+    }
+
+    private Val toFeel(JsonNode node) {
+      return switch (node.getNodeType()) {
+        case OBJECT -> new ValContext(new LazyContext(new ObjectNodeVariables(node, this)));
+        case ARRAY -> {
+          List<Val> items = new ArrayList<>(node.size());
+          for (JsonNode element : node) {
+            items.add(toFeel(element));
+          }
+          yield toValList(items);
+        }
+        case STRING, BINARY -> SCALAR_MAPPER.toVal(node.asText());
+        case NUMBER -> SCALAR_MAPPER.toVal(node.numberValue());
+        case BOOLEAN -> SCALAR_MAPPER.toVal(node.booleanValue());
+        case POJO -> toFeel(objectMapper.valueToTree(node));
+        case NULL, MISSING -> SCALAR_MAPPER.toVal(null);
+      };
+    }
+
+    private static ValList toValList(List<Val> items) {
+      return new ValList(CollectionConverters.asScala(items).toList());
+    }
+
+    private static boolean isPlainValue(Object value) {
+      return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+  }
+
+  /**
+   * Exposes the entries of a map by the string form of their keys, like the previous eager
+   * conversion did. Maps with non-string keys are indexed once, so that every entry can be looked
+   * up by the name returned from {@link #keys()}.
+   */
+  private record MapVariables(
+      Map<?, ?> map, Map<String, ?> names, Converter converter, Map<String, Val> converted)
+      implements VariableProvider {
+
+    MapVariables(Map<?, ?> map, Converter converter) {
+      this(map, indexNames(map), converter, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public Option<Object> getVariable(String name) {
+      final Object key;
+      if (names != null) {
+        if (!names.containsKey(name)) {
+          return Option.empty();
+        }
+        key = names.get(name);
+      } else if (map.containsKey(name)) {
+        key = name;
+      } else {
+        return Option.empty();
+      }
+      return new Some<>(converted.computeIfAbsent(name, n -> converter.toFeel(map.get(key))));
+    }
+
+    @Override
+    public Iterable<String> keys() {
+      return CollectionConverters.asScala(map.keySet().stream().map(String::valueOf).toList());
+    }
+
+    private static Map<String, ?> indexNames(Map<?, ?> map) {
+      if (map.keySet().stream().allMatch(String.class::isInstance)) {
+        return null;
+      }
+      Map<String, Object> names = new HashMap<>();
+      for (Object key : map.keySet()) {
+        names.putIfAbsent(String.valueOf(key), key);
+      }
+      return names;
+    }
+  }
+
+  private record ObjectNodeVariables(JsonNode node, Converter converter, Map<String, Val> converted)
+      implements VariableProvider {
+
+    ObjectNodeVariables(JsonNode node, Converter converter) {
+      this(node, converter, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public Option<Object> getVariable(String name) {
+      var value = node.get(name);
+      if (value == null) {
+        return Option.empty();
+      }
+      return new Some<>(converted.computeIfAbsent(name, key -> converter.toFeel(value)));
+    }
+
+    @Override
+    public Iterable<String> keys() {
+      List<String> names = new ArrayList<>(node.size());
+      node.fieldNames().forEachRemaining(names::add);
+      return CollectionConverters.asScala(names);
+    }
+  }
+
+  private record WithResponse(VariableProvider variables, String responseKey, Val response)
+      implements VariableProvider {
+
+    @Override
+    public Option<Object> getVariable(String name) {
+      if (responseKey.equals(name)) {
+        return new Some<>(response);
+      }
+      return variables.getVariable(name);
+    }
+
+    @Override
+    public Iterable<String> keys() {
+      List<String> names = new ArrayList<>();
+      CollectionConverters.asJava(variables.keys()).forEach(names::add);
+      if (!names.contains(responseKey)) {
+        names.add(responseKey);
+      }
+      return CollectionConverters.asScala(names);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+
+/**
+ * Bounded cache of parsed FEEL expressions, keyed by the expression text. When the cache is full,
+ * the least recently used expression is evicted.
+ */
+public final class ParsedExpressionCache {
+
+  /**
+   * Snapshot of the cache counters.
+   *
+   * @param hits - number of lookups answered from the cache
+   * @param misses - number of lookups that required parsing the expression
+   * @param evictions - number of expressions evicted because the cache was full
+   * @param size - number of expressions currently cached
+   */
+  public record Statistics(long hits, long misses, long evictions, int size) {}
+
+  private final int maxSize;
+  private final Map<String, ParsedExpression> expressions;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  ParsedExpressionCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.expressions =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, ParsedExpression> eldest) {
+            if (size() > ParsedExpressionCache.this.maxSize) {
+              evictions.increment();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached expression, or parses and caches it. The parser is called outside the lock,
+   * so concurrent misses for the same expression may parse it more than once.
+   */
+  ParsedExpression get(String expression, Function<String, ParsedExpression> parser) {
+    ParsedExpression parsed;
+    synchronized (expressions) {
+      parsed = expressions.get(expression);
+    }
+    if (parsed != null) {
+      hits.increment();
+      return parsed;
+    }
+    misses.increment();
+    parsed = parser.apply(expression);
+    if (maxSize > 0) {
+      synchronized (expressions) {
+        expressions.put(expression, parsed);
+      }
+    }
+    return parsed;
+  }
+
+  public Statistics getStatistics() {
+    int size;
+    synchronized (expressions) {
+      size = expressions.size();
+    }
+    return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.camunda.feel.context.Context;
+
+/**
+ * Variables converted to a FEEL context once, to evaluate several expressions against the same
+ * variables. Can be passed to the evaluation methods of {@link FeelEngineWrapper} in place of the
+ * variables, see {@link FeelEngineWrapper#prepareContext(Object)}.
+ *
+ * <p>The variables are converted on first use, and values read by an expression are kept for the
+ * following expressions. The variables must not be modified while the context is in use.
+ */
+public final class PreparedContext {
+
+  private final Object variables;
+  private final String responseKey;
+  private final ObjectMapper objectMapper;
+  private volatile Context context;
+
+  PreparedContext(Object variables, String responseKey, ObjectMapper objectMapper) {
+    this.variables = variables;
+    this.responseKey = responseKey;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * @return the variables this context was prepared for
+   */
+  public Object getVariables() {
+    return variables;
+  }
+
+  Context context() {
+    var current = context;
+    if (current == null) {
+      current = LazyContext.root(variables, responseKey, objectMapper);
+      context = current;
+    }
+    return current;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(variables);
+  }
+}
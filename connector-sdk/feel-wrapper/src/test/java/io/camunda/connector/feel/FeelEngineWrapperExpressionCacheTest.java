@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.impl.JavaValueMapper;
+import org.junit.jupiter.api.Test;
+
+class FeelEngineWrapperExpressionCacheTest {
+
+  private static FeelEngineWrapper wrapperWithCacheSize(int size) {
+    return new FeelEngineWrapper(
+        new FeelEngine.Builder().customValueMapper(new JavaValueMapper()).build(),
+        new ObjectMapper(),
+        size);
+  }
+
+  @Test
+  void evaluate_ShouldReuseParsedExpression_WhenTrimmedTextIsEqual() {
+    // given
+    final var objectUnderTest = wrapperWithCacheSize(10);
+
+    // when
+    final Object first = objectUnderTest.evaluate("= a + 1", Map.of("a", 1));
+    final Object second = objectUnderTest.evaluate("a + 1 ", Map.of("a", 2));
+
+    // then
+    assertThat(first).isEqualTo(2L);
+    assertThat(second).isEqualTo(3L);
+    assertThat(objectUnderTest.getExpressionCacheStatistics())
+        .isEqualTo(new ParsedExpressionCache.Statistics(1, 1, 0, 1));
+  }
+
+  @Test
+  void evaluate_ShouldEvictLeastRecentlyUsedExpression_WhenCacheIsFull() {
+    // given
+    final var objectUnderTest = wrapperWithCacheSize(2);
+    objectUnderTest.evaluate("1", Map.of());
+    objectUnderTest.evaluate("2", Map.of());
+    objectUnderTest.evaluate("1", Map.of());
+
+    // when
+    objectUnderTest.evaluate("3", Map.of());
+    objectUnderTest.evaluate("1", Map.of());
+    objectUnderTest.evaluate("2", Map.of());
+
+    // then
+    assertThat(objectUnderTest.getExpressionCacheStatistics())
+        .isEqualTo(new ParsedExpressionCache.Statistics(2, 4, 2, 2));
+  }
+
+  @Test
+  void evaluate_ShouldNotCacheExpression_WhenParsingFails() {
+    // given
+    final var objectUnderTest = wrapperWithCacheSize(10);
+
+    // when
+    assertThrowsExactly(
+        FeelEngineWrapperException.class, () -> objectUnderTest.evaluate("{ a: ", Map.of()));
+
+    // then
+    assertThat(objectUnderTest.getExpressionCacheStatistics().size()).isZero();
+  }
+
+  @Test
+  void evaluate_ShouldParseEveryTime_WhenCacheIsDisabled() {
+    // given
+    final var objectUnderTest = wrapperWithCacheSize(0);
+
+    // when
+    objectUnderTest.evaluate("1", Map.of());
+    objectUnderTest.evaluate("1", Map.of());
+
+    // then
+    assertThat(objectUnderTest.getExpressionCacheStatistics())
+        .isEqualTo(new ParsedExpressionCache.Statistics(0, 2, 0, 0));
+  }
+}
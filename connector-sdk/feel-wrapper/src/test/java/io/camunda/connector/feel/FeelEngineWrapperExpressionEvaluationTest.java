@@ -21,11 +21,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 
@@ -254,4 +259,88 @@ class FeelEngineWrapperExpressionEvaluationTest {
         FeelEngineWrapperException.class,
         () -> objectUnderTest.evaluate(resultExpression, variables));
   }
+
+  @Test
+  void evaluate_ShouldOnlyReadAccessedPath_WhenVariablesContainUnserializableValue() {
+    // given
+    final var resultExpression = "=response.body.id";
+    final var variables =
+        Map.of(
+            "body",
+            Map.of("id", 42),
+            "other",
+            new Object() {
+              public String getValue() {
+                throw new IllegalStateException("must not be read");
+              }
+            });
+
+    // when
+    final Object result = objectUnderTest.evaluate(resultExpression, variables);
+
+    // then
+    assertThat(result).isEqualTo(42L);
+  }
+
+  @Test
+  void evaluate_ShouldSucceed_WhenVariablesAreJsonNode() throws Exception {
+    // given
+    final var resultExpression = "={id: body.items[2].id, count: count(response.body.items)}";
+    final var variables =
+        new ObjectMapper().readTree("{\"body\":{\"items\":[{\"id\":\"a\"},{\"id\":\"b\"},{}]}}");
+
+    // when
+    final Map<String, Object> result = objectUnderTest.evaluate(resultExpression, variables);
+
+    // then
+    assertThat(result).containsEntry("id", "b").containsEntry("count", 3L);
+  }
+
+  @Test
+  void evaluate_ShouldReturnJavaTypes_WhenReturningNestedContext() {
+    // given
+    final var resultExpression = "=response.body";
+    final var pojo = new NestedPojo("value", List.of(new NestedPojo("nested", null)));
+    final var variables = Map.of("body", Map.of("pojo", pojo, "empty", new Object()));
+
+    // when
+    final Map<String, Object> result = objectUnderTest.evaluate(resultExpression, variables);
+
+    // then
+    assertThat(result)
+        .isEqualTo(
+            Map.of(
+                "empty",
+                Map.of(),
+                "pojo",
+                Map.of("name", "value", "children", List.of(Map.of("name", "nested")))));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "={a: 1, b: 2.5, c: \"text\", d: [1, 2147483648, null], e: {f: true}}",
+        "=response.body",
+        "=[response.body.items[1], count(response.body.items), 1 / 3]",
+        "=9223372036854775808",
+        "=null",
+        "=\"plain\""
+      })
+  void evaluateToJava_ShouldMatchJsonRoundTrip(String expression) throws Exception {
+    // given
+    final var variables =
+        Map.of("body", Map.of("items", List.of(Map.of("id", 1L), Map.of("id", 2.0f))));
+    final var mapper = new ObjectMapper();
+
+    // when
+    final Object result = objectUnderTest.evaluateToJava(expression, variables);
+
+    // then
+    final var expected =
+        mapper.readValue(objectUnderTest.evaluateToJson(expression, variables), Object.class);
+    assertThat(result).isEqualTo(expected);
+  }
+
+  record NestedPojo(
+      String name, @JsonInclude(JsonInclude.Include.NON_NULL) List<NestedPojo> children) {}
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class FeelEngineWrapperPreparedContextTest {
+
+  private final FeelEngineWrapper objectUnderTest = new FeelEngineWrapper();
+
+  public static class Payload {
+
+    private final AtomicInteger reads;
+
+    Payload(AtomicInteger reads) {
+      this.reads = reads;
+    }
+
+    public Map<String, Object> getBody() {
+      reads.incrementAndGet();
+      return Map.of("id", "123", "items", List.of(1, 2, 3));
+    }
+  }
+
+  @Test
+  void evaluate_ShouldConvertVariablesOnce_WhenContextIsPrepared() {
+    // given
+    final var reads = new AtomicInteger();
+    final var context = objectUnderTest.prepareContext(new Payload(reads));
+
+    // when
+    final Object condition = objectUnderTest.evaluate("=body.id != null", context);
+    final String key = objectUnderTest.evaluate("=body.id", context, String.class);
+    final Object result = objectUnderTest.evaluateToJava("={count: count(body.items)}", context);
+
+    // then
+    assertThat(condition).isEqualTo(true);
+    assertThat(key).isEqualTo("123");
+    assertThat(result).isEqualTo(Map.of("count", 3));
+    assertThat(reads).hasValue(1);
+  }
+
+  @Test
+  void evaluate_ShouldMatchUnpreparedEvaluation_WhenContextIsPrepared() {
+    // given
+    final var variables = Map.of("a", Map.of("b", List.of(1, 2)), "c", "d");
+    final var context = objectUnderTest.prepareContext(variables);
+
+    // when
+    final Object prepared = objectUnderTest.evaluateToJava("={a: a, sum: sum(a.b), c: c}", context);
+    final Object unprepared =
+        objectUnderTest.evaluateToJava("={a: a, sum: sum(a.b), c: c}", variables);
+
+    // then
+    assertThat(prepared).isEqualTo(unprepared);
+    assertThat(objectUnderTest.prepareContext(context)).isSameAs(context);
+    assertThat(context.getVariables()).isSameAs(variables);
+  }
+
+  @Test
+  void evaluate_ShouldResolveEntriesByKeyName_WhenMapKeysAreNotStrings() {
+    // given
+    final var variables = Map.of("codes", Map.of(200, "ok", 404, "missing"));
+    final var context = objectUnderTest.prepareContext(variables);
+
+    // when
+    final Object prepared = objectUnderTest.evaluateToJava("=get value(codes, \"404\")", context);
+    final Object unprepared =
+        objectUnderTest.evaluateToJava("=get value(codes, \"404\")", variables);
+
+    // then
+    assertThat(prepared).isEqualTo("missing");
+    assertThat(unprepared).isEqualTo("missing");
+  }
+
+  @Test
+  void evaluate_ShouldFail_WhenPreparedVariablesAreNull() {
+    // given
+    final var context = objectUnderTest.prepareContext(null);
+
+    // when & then
+    assertThrowsExactly(
+        FeelEngineWrapperException.class, () -> objectUnderTest.evaluate("=1", context));
+  }
+}
@@ -46,7 +46,12 @@ public abstract class AbstractFeelDeserializer<T> extends StdDeserializer<T>
     }
     ObjectMapper mapper = (ObjectMapper) parser.getCodec();
 
-    if (isFeelExpression(node.textValue()) || relaxed) {
+    boolean feelExpression = isFeelExpression(node.textValue());
+    if (relaxed && !feelExpression) {
+      // plain values are not evaluated, so the FEEL context is not needed
+      return doDeserialize(node, mapper, mapper.createObjectNode());
+    }
+    if (feelExpression) {
       var feelContextSupplier =
           context.getAttribute(FeelContextAwareObjectReader.FEEL_CONTEXT_ATTRIBUTE);
 
@@ -38,8 +38,10 @@ import java.util.stream.Collectors;
  */
 public class FeelDeserializer extends AbstractFeelDeserializer<Object> {
 
+  private static final String[] JSON_LITERALS = {"true", "false", "null", "NaN", "Infinity"};
+
   private final JavaType outputType;
-  private static final FeelEngineWrapper FEEL_ENGINE_WRAPPER = new FeelEngineWrapper();
+  static final FeelEngineWrapper FEEL_ENGINE_WRAPPER = new FeelEngineWrapper();
 
   public FeelDeserializer() { // needed for references in @JsonDeserialize
     this(FEEL_ENGINE_WRAPPER, TypeFactory.unknownType());
@@ -65,7 +67,7 @@ public class FeelDeserializer extends AbstractFeelDeserializer<Object> {
           && !textValue.trim().startsWith("[")) {
         // Support legacy list like formats like: a,b,c | 1,2,3
         return handleListLikeFormat(textValue);
-      } else {
+      } else if (mayContainJson(textValue)) {
         try {
           // check if this string contains a JSON object/array/etc inside (i.e. it's not just a
           // string)
@@ -79,6 +81,27 @@ public class FeelDeserializer extends AbstractFeelDeserializer<Object> {
     return handleNormalJsonNode(node, mapper);
   }
 
+  /**
+   * Tells whether parsing the string as JSON may succeed, to avoid the cost of a failing parse for
+   * plain text. JSON values cannot start with a letter, except for the literals {@code true},
+   * {@code false} and {@code null} and, if enabled in the mapper, {@code NaN} and {@code Infinity}.
+   */
+  static boolean mayContainJson(String value) {
+    int start = 0;
+    while (start < value.length() && Character.isWhitespace(value.charAt(start))) {
+      start++;
+    }
+    if (start == value.length() || !Character.isLetter(value.charAt(start))) {
+      return true;
+    }
+    for (String literal : JSON_LITERALS) {
+      if (value.startsWith(literal, start)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   protected Object handleFeelExpression(JsonNode node, ObjectMapper mapper, JsonNode feelContext)
       throws JsonProcessingException {
     var jsonNode = feelEngineWrapper.evaluate(node.textValue(), feelContext, JsonNode.class);
@@ -41,8 +41,6 @@ class FeelFunctionDeserializer<IN, OUT> extends AbstractFeelDeserializer<Functio
     this.outputType = outputType;
   }
 
-  private final FeelEngineWrapper feelEngineWrapper = new FeelEngineWrapper();
-
   @Override
   protected Function<IN, OUT> doDeserialize(
       JsonNode node, ObjectMapper mapper, JsonNode feelContext) {
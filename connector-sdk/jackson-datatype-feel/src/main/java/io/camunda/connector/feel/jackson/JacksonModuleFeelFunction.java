@@ -25,7 +25,15 @@ import java.util.function.Supplier;
 
 public class JacksonModuleFeelFunction extends SimpleModule {
 
-  private final FeelEngineWrapper feelEngineWrapper = new FeelEngineWrapper();
+  private final FeelEngineWrapper feelEngineWrapper;
+
+  public JacksonModuleFeelFunction() {
+    this(FeelDeserializer.FEEL_ENGINE_WRAPPER);
+  }
+
+  public JacksonModuleFeelFunction(FeelEngineWrapper feelEngineWrapper) {
+    this.feelEngineWrapper = feelEngineWrapper;
+  }
 
   @Override
   public String getModuleName() {
@@ -29,6 +29,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class FeelDeserializerTest {
 
@@ -219,6 +222,45 @@ public class FeelDeserializerTest {
     assertThat(e.getMessage()).contains("Attribute FEEL_CONTEXT must be a Supplier");
   }
 
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"GET", "https://camunda.io", "hello {\"a\": 1}", " text", "trueish", "Nope"})
+  void feelDeserializer_plainText_preserved(String value) throws JsonProcessingException {
+    // given
+    String json = mapper.writeValueAsString(Map.of("props", value));
+
+    // when
+    var targetType = mapper.readValue(json, TargetTypeString.class);
+
+    // then
+    assertThat(targetType.props).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      value = {"true|true", "  false|false", "42|42", "\"quoted\"|quoted", "null|"})
+  void feelDeserializer_jsonLiterals_parsed(String value, String expected)
+      throws JsonProcessingException {
+    // given
+    String json = mapper.writeValueAsString(Map.of("props", value));
+
+    // when
+    var targetType = mapper.readValue(json, TargetTypeString.class);
+
+    // then
+    assertThat(targetType.props).isEqualTo(expected);
+  }
+
+  @Test
+  void feelDeserializer_mayContainJson() {
+    assertThat(FeelDeserializer.mayContainJson("plain text")).isFalse();
+    assertThat(FeelDeserializer.mayContainJson("{\"a\": 1}")).isTrue();
+    assertThat(FeelDeserializer.mayContainJson(" [1]")).isTrue();
+    assertThat(FeelDeserializer.mayContainJson("null")).isTrue();
+    assertThat(FeelDeserializer.mayContainJson("")).isTrue();
+  }
+
   private record TargetTypeMap(@FEEL Map<String, String> props) {}
 
   private record TargetTypeObject(@FEEL StubObject stubObject) {}
@@ -34,6 +34,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /** Test helper class for creating an {@link InboundConnectorContext} with a fluent API. */
 public class InboundConnectorContextBuilder {
@@ -152,8 +154,8 @@ public class InboundConnectorContextBuilder {
   }
 
   /**
-   * Assigns correlation result that will be returned on {@link InboundConnectorContext#correlate}
-   * call
+   * Assigns correlation result that will be returned on {@link
+   * InboundConnectorContext#correlateAsync} call
    *
    * @param result - correlation result
    * @return builder for fluent API
@@ -213,6 +215,13 @@ public class InboundConnectorContextBuilder {
       correlatedEvents.add(variables);
     }
 
+    @Override
+    public CompletionStage<io.camunda.connector.api.inbound.CorrelationResult> correlateAsync(
+        Object variables) {
+      correlatedEvents.add(variables);
+      return CompletableFuture.completedFuture(result);
+    }
+
     @Override
     public void cancel(Throwable exception) {
       // do nothing
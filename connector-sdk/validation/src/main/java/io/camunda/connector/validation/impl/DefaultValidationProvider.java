@@ -22,32 +22,61 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.Validation;
 import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
 
+/**
+ * {@link ValidationProvider} based on Jakarta Bean Validation. The {@link Validator} is created
+ * once and shared, and objects of classes without any constraints or cascaded properties are not
+ * validated at all.
+ */
 public class DefaultValidationProvider implements ValidationProvider {
   protected static final String LF = "\n";
   protected final ValidatorFactory validatorFactory;
+  protected final Validator validator;
+  private final Map<Class<?>, Boolean> constrainedClasses = new ConcurrentHashMap<>();
 
   public DefaultValidationProvider() {
     final var configuration = Validation.byDefaultProvider().configure();
     Optional.ofNullable(getMessageInterpolator()).ifPresent(configuration::messageInterpolator);
     this.validatorFactory = configuration.buildValidatorFactory();
+    this.validator = validatorFactory.getValidator();
   }
 
   @Override
   public void validate(Object objectToValidate) {
-    Set<ConstraintViolation<Object>> violations =
-        validatorFactory.getValidator().validate(objectToValidate);
+    if (objectToValidate != null && !isConstrained(objectToValidate.getClass())) {
+      return;
+    }
+    Set<ConstraintViolation<Object>> violations = validator.validate(objectToValidate);
     if (!violations.isEmpty()) {
       String errorMessage = composeMessage(violations);
       throw new ConnectorInputException(new ValidationException(errorMessage));
     }
   }
 
+  /** Introspects the constraints of the given types, so that their first validation is fast. */
+  @Override
+  public void warmUp(Collection<Class<?>> types) {
+    types.forEach(this::isConstrained);
+  }
+
+  /**
+   * @return whether objects of the given class have constraints, on the class, its properties or
+   *     cascaded properties
+   */
+  protected boolean isConstrained(Class<?> type) {
+    return constrainedClasses.computeIfAbsent(
+        type, t -> validator.getConstraintsForClass(t).isBeanConstrained());
+  }
+
   protected MessageInterpolator getMessageInterpolator() {
     try {
       Class.forName("javax.el.ExpressionFactory");
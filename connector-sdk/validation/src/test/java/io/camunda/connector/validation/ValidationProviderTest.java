@@ -23,6 +23,8 @@ import static org.assertj.core.api.Assertions.catchException;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.validation.impl.DefaultValidationProvider;
+import jakarta.validation.Valid;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class ValidationProviderTest {
@@ -58,6 +60,35 @@ class ValidationProviderTest {
         .hasMessageContaining("age:");
   }
 
+  @Test
+  void shouldSkipValidationOfUnconstrainedClasses() {
+    // given
+    var provider = new DefaultValidationProvider();
+    provider.warmUp(List.of(Unconstrained.class, Team.class));
+
+    // then
+    assertThatNoException().isThrownBy(() -> provider.validate(new Unconstrained(null)));
+  }
+
+  @Test
+  void shouldValidateCascadedProperties() {
+    // given
+    var team = new Team(mockUser(null, "weird", "Definitely not a super hero", 18, true));
+
+    // when
+    Exception exception = catchException(() -> VALIDATION_PROVIDER.validate(team));
+
+    // then
+    assertThat(exception)
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("lead.name:")
+        .hasMessageContaining("lead.email:");
+  }
+
+  record Unconstrained(String name) {}
+
+  record Team(@Valid User lead) {}
+
   private User mockUser(String name, String email, String aboutMe, int age, boolean working) {
     User user = new User();
     user.setAge(age);
@@ -47,7 +47,8 @@ public abstract sealed class WebhookAuthorizationHandler<T extends WebhookAuthor
                 .cached(10, 10, TimeUnit.MINUTES) // Cache JWKs for 10 minutes
                 .rateLimited(10, 1, TimeUnit.MINUTES) // Rate limit to 10 requests per minute
                 .build();
-        return new JWTAuthHandler(jwtAuth, jwkProvider, ConnectorsObjectMapperSupplier.getCopy());
+        return new JWTAuthHandler(
+            jwtAuth, jwkProvider, ConnectorsObjectMapperSupplier.DEFAULT_MAPPER);
       } catch (Exception e) {
         throw new RuntimeException("Failed to initialize JWK provider", e);
       }
@@ -42,7 +42,7 @@ public class HttpWebhookUtil {
           .collect(Collectors.toMap(param -> param[0], param -> param.length == 1 ? "" : param[1]));
     } else {
       // Do our best to parse to JSON (throws exception otherwise)
-      return ConnectorsObjectMapperSupplier.getCopy().readValue(rawBody, Map.class);
+      return ConnectorsObjectMapperSupplier.getReader(Map.class).readValue(rawBody);
     }
   }
 }
@@ -30,15 +30,34 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.secret.SecretProvider;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class GcpSecretManagerSecretProvider implements SecretProvider {
+/**
+ * Reads the secrets of a cluster from one secret in the Google Secret Manager.
+ *
+ * <p>The secrets are loaded on first access and refreshed in the background afterwards, lookups are
+ * served from the last loaded secrets and never wait for a refresh. Refreshes are scheduled with a
+ * random jitter, so that runtimes started at the same time do not hit the secret manager at the
+ * same time, and are backed off exponentially while they fail. Refreshes pause while the secrets
+ * are not used and resume with the next lookup. If the paused secrets are older than {@value
+ * #STALE_AFTER_INTERVALS} refresh intervals by then, that lookup reloads them before it is served.
+ */
+public class GcpSecretManagerSecretProvider implements SecretProvider, AutoCloseable {
 
   private static final Logger LOGGER =
       LoggerFactory.getLogger(GcpSecretManagerSecretProvider.class);
@@ -56,17 +75,65 @@ public class GcpSecretManagerSecretProvider implements SecretProvider {
   public static final String SECRETS_PREFIX_ENV_NAME = "SECRETS_PREFIX";
   public static final String CLUSTER_ID_ENV_NAME = "CAMUNDA_CLUSTER_ID";
 
+  /** Interval between refreshes of the secrets */
   public static final String SECRETS_CACHE_MILLIS_ENV_NAME =
       "CAMUNDA_CONNECTOR_SECRETS_CACHE_MILLIS";
 
-  // private final Gson gson;
+  public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+  /** Upper bound of the delay between failing refreshes, unless the interval is longer */
+  public static final Duration MAX_REFRESH_BACKOFF = Duration.ofMinutes(1);
+
+  /** Age, in refresh intervals, from which paused secrets are reloaded before a lookup */
+  static final int STALE_AFTER_INTERVALS = 3;
+
+  /** Maximum deviation of the refresh delay, relative to the delay */
+  static final double REFRESH_JITTER = 0.1;
+
+  /** Callbacks to record metrics of the refreshes. */
+  public interface Listener {
+
+    default void onRefreshed(Duration latency) {}
+
+    default void onRefreshFailed(Duration latency) {}
+  }
+
+  /**
+   * @param age time since the secrets were loaded, null if they were not loaded yet
+   * @param lastRefreshLatency duration of the last refresh, null if there was none yet
+   * @param refreshes number of successful loads
+   * @param failures number of failed loads
+   */
+  public record RefreshStatistics(
+      Duration age, Duration lastRefreshLatency, long refreshes, long failures) {}
+
+  private record Secrets(Map<String, String> values, long loadedAt) {}
+
   private ObjectMapper mapper;
   private final String clusterId;
   private final String secretsProjectId;
   private final String secretsNamePrefix;
+  private final Duration refreshInterval;
+  private final Listener listener;
+  private final LongSupplier nanoTime;
+
+  private final ScheduledExecutorService refreshExecutor;
+  private final AtomicLong refreshes = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private volatile Secrets secrets;
+  private volatile Duration lastRefreshLatency;
+  private final AtomicBoolean accessed = new AtomicBoolean();
+  private volatile boolean idle;
+  // only modified by the refresh thread once the secrets were loaded
+  private int consecutiveFailures;
+  private SecretManagerServiceClient client;
+  private boolean closed;
 
-  // private Map<String, String> secrets = new HashMap<>();
-  private static final String CACHE_KEY = "SECRETS";
+  /**
+   * @deprecated the secrets are no longer held in a Guava cache. This view loads every entry from
+   *     the refreshed secrets and keeps nothing itself, use {@link #getSecrets(Set)} instead.
+   */
+  @Deprecated(forRemoval = true)
   LoadingCache<String, Map<String, String>> secretsCache;
 
   public GcpSecretManagerSecretProvider() {
@@ -81,8 +148,53 @@ public class GcpSecretManagerSecretProvider implements SecretProvider {
     this(DEFAULT_MAPPER, clusterId, secretsProjectId, secretsNamePrefix);
   }
 
+  public GcpSecretManagerSecretProvider(
+      String clusterId, String secretsProjectId, String secretsNamePrefix, Listener listener) {
+    this(
+        DEFAULT_MAPPER,
+        clusterId,
+        secretsProjectId,
+        secretsNamePrefix,
+        refreshIntervalFromEnvironment(),
+        listener);
+  }
+
   public GcpSecretManagerSecretProvider(
       ObjectMapper mapper, String clusterId, String secretsProjectId, String secretsNamePrefix) {
+    this(
+        mapper,
+        clusterId,
+        secretsProjectId,
+        secretsNamePrefix,
+        refreshIntervalFromEnvironment(),
+        new Listener() {});
+  }
+
+  public GcpSecretManagerSecretProvider(
+      ObjectMapper mapper,
+      String clusterId,
+      String secretsProjectId,
+      String secretsNamePrefix,
+      Duration refreshInterval,
+      Listener listener) {
+    this(
+        mapper,
+        clusterId,
+        secretsProjectId,
+        secretsNamePrefix,
+        refreshInterval,
+        listener,
+        System::nanoTime);
+  }
+
+  GcpSecretManagerSecretProvider(
+      ObjectMapper mapper,
+      String clusterId,
+      String secretsProjectId,
+      String secretsNamePrefix,
+      Duration refreshInterval,
+      Listener listener,
+      LongSupplier nanoTime) {
     this.mapper = mapper;
 
     this.clusterId = clusterId;
@@ -91,25 +203,40 @@ public class GcpSecretManagerSecretProvider implements SecretProvider {
     this.secretsNamePrefix =
         Objects.requireNonNull(
             secretsNamePrefix, "Configuration for Secrets name prefix is missing");
+    if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+      throw new IllegalArgumentException(
+          "Secrets refresh interval must be positive, but was " + refreshInterval);
+    }
+    this.refreshInterval = refreshInterval;
+    this.listener = listener;
+    this.nanoTime = nanoTime;
+    this.refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              var thread = new Thread(runnable, "gcp-secrets-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
 
     this.setupSecretsCache();
   }
 
+  /**
+   * Sets up {@link #secretsCache} as a view of the refreshed secrets. The refreshes themselves are
+   * scheduled on first access, so calling this method again has no further effect.
+   *
+   * @deprecated the secrets are refreshed in the background, there is nothing left to set up
+   */
+  @Deprecated(forRemoval = true)
   public void setupSecretsCache() {
-    // Load secrets via this loader function whenever necessary
-    CacheLoader<String, Map<String, String>> loader =
-        new CacheLoader<>() {
-          @Override
-          public Map<String, String> load(String key) throws JsonProcessingException {
-            return unwrapSecrets(loadGoogleSecrets(clusterId));
-          }
-        };
-    long millis =
-        Long.parseLong(
-            Optional.ofNullable(System.getenv(SECRETS_CACHE_MILLIS_ENV_NAME))
-                .orElseGet(() -> "5000"));
     secretsCache =
-        CacheBuilder.newBuilder().refreshAfterWrite(millis, TimeUnit.MILLISECONDS).build(loader);
+        CacheBuilder.newBuilder().maximumSize(0).build(CacheLoader.from(key -> getCachedSecrets()));
+  }
+
+  private static Duration refreshIntervalFromEnvironment() {
+    return Optional.ofNullable(System.getenv(SECRETS_CACHE_MILLIS_ENV_NAME))
+        .map(millis -> Duration.ofMillis(Long.parseLong(millis)))
+        .orElse(DEFAULT_REFRESH_INTERVAL);
   }
 
   protected Map<String, String> unwrapSecrets(final String secretsAsJson)
@@ -119,12 +246,13 @@ public class GcpSecretManagerSecretProvider implements SecretProvider {
 
   protected String loadGoogleSecrets(final String clusterId) {
     Objects.requireNonNull(clusterId, "You need to specify the clusterId to load secrets for");
-    LOGGER.info("Fetching secrets for cluster {} from secret manager", clusterId);
-    try (final SecretManagerServiceClient client = SecretManagerServiceClient.create()) {
+    LOGGER.debug("Fetching secrets for cluster {} from secret manager", clusterId);
+    try {
       final String secretName = String.format("%s-%s", secretsNamePrefix, clusterId);
       final SecretVersionName secretVersionName =
           SecretVersionName.of(secretsProjectId, secretName, "latest");
-      final AccessSecretVersionResponse response = client.accessSecretVersion(secretVersionName);
+      final AccessSecretVersionResponse response =
+          getClient().accessSecretVersion(secretVersionName);
       return response.getPayload().getData().toStringUtf8();
     } catch (final Exception e) {
       LOGGER.trace("Failed to load secrets from secret manager", e);
@@ -132,12 +260,169 @@ public class GcpSecretManagerSecretProvider implements SecretProvider {
     }
   }
 
+  /** Returns the client, which is created once and reused for all refreshes. */
+  protected synchronized SecretManagerServiceClient getClient() throws IOException {
+    if (closed) {
+      throw new IllegalStateException("Secret provider is closed");
+    }
+    if (client == null) {
+      client = SecretManagerServiceClient.create();
+    }
+    return client;
+  }
+
   @Override
   public String getSecret(String name) {
+    return getCachedSecrets().get(name);
+  }
+
+  /** All secrets of the cluster are stored in one Google secret, so they are read at once. */
+  @Override
+  public Map<String, String> getSecrets(Set<String> names) {
+    var cachedSecrets = getCachedSecrets();
+    Map<String, String> secrets = new HashMap<>();
+    for (String name : names) {
+      var secret = cachedSecrets.get(name);
+      if (secret != null) {
+        secrets.put(name, secret);
+      }
+    }
+    return secrets;
+  }
+
+  private Map<String, String> getCachedSecrets() {
+    // read before writing, lookups do not contend on the flag while it is set
+    if (!accessed.get()) {
+      accessed.set(true);
+    }
+    var current = secrets;
+    if (current == null) {
+      current = loadInitialSecrets();
+    } else if (idle) {
+      current = resumeRefresh();
+    }
+    return current.values();
+  }
+
+  /** Loads the secrets on first access, concurrent callers wait for the same load. */
+  private synchronized Secrets loadInitialSecrets() {
+    if (secrets == null) {
+      try {
+        secrets = load();
+      } catch (Exception e) {
+        throw new ConnectorException("Could not resolve secrets: " + e.getMessage(), e);
+      }
+      scheduleRefresh(refreshInterval);
+    }
+    return secrets;
+  }
+
+  private Secrets load() throws JsonProcessingException {
+    long start = nanoTime.getAsLong();
+    try {
+      var values = unwrapSecrets(loadGoogleSecrets(clusterId));
+      long end = nanoTime.getAsLong();
+      lastRefreshLatency = Duration.ofNanos(end - start);
+      refreshes.incrementAndGet();
+      listener.onRefreshed(lastRefreshLatency);
+      return new Secrets(values, end);
+    } catch (RuntimeException | JsonProcessingException e) {
+      lastRefreshLatency = Duration.ofNanos(nanoTime.getAsLong() - start);
+      failures.incrementAndGet();
+      listener.onRefreshFailed(lastRefreshLatency);
+      throw e;
+    }
+  }
+
+  private void refresh() {
+    if (!accessed.getAndSet(false)) {
+      synchronized (this) {
+        idle = true;
+      }
+      return;
+    }
     try {
-      return secretsCache.get(CACHE_KEY).get(name);
-    } catch (ExecutionException e) {
-      throw new ConnectorException("Could not resolve secrets: " + e.getMessage(), e);
+      secrets = load();
+      consecutiveFailures = 0;
+    } catch (Exception e) {
+      consecutiveFailures++;
+      LOGGER.warn(
+          "Failed to refresh secrets for cluster {}, serving secrets loaded {} ago",
+          clusterId,
+          getRefreshStatistics().age(),
+          e);
+    }
+    scheduleRefresh(nextRefreshDelay(refreshInterval, consecutiveFailures));
+  }
+
+  /**
+   * Returns the delay until the next refresh: the interval, doubled for every consecutive failure
+   * up to the maximum backoff, varied randomly by the jitter.
+   */
+  static Duration nextRefreshDelay(Duration interval, int consecutiveFailures) {
+    long delay = interval.toNanos();
+    if (consecutiveFailures > 0) {
+      long maxDelay = Math.max(delay, MAX_REFRESH_BACKOFF.toNanos());
+      delay = Math.min(delay << Math.min(consecutiveFailures, 20), maxDelay);
+    }
+    double jitter = ThreadLocalRandom.current().nextDouble(-REFRESH_JITTER, REFRESH_JITTER);
+    return Duration.ofNanos(delay + (long) (delay * jitter));
+  }
+
+  /**
+   * Resumes the paused refreshes. Secrets that are not older than {@value #STALE_AFTER_INTERVALS}
+   * intervals are served and refreshed right away in the background. Older secrets are reloaded
+   * first, concurrent lookups wait for the same load, and are only served if that load fails.
+   */
+  private synchronized Secrets resumeRefresh() {
+    if (!idle) {
+      return secrets;
+    }
+    idle = false;
+    long age = nanoTime.getAsLong() - secrets.loadedAt();
+    if (age > refreshInterval.toNanos() * STALE_AFTER_INTERVALS) {
+      try {
+        secrets = load();
+        scheduleRefresh(nextRefreshDelay(refreshInterval, 0));
+        return secrets;
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Failed to reload secrets for cluster {}, serving secrets loaded {} ago",
+            clusterId,
+            Duration.ofNanos(age),
+            e);
+      }
+    }
+    scheduleRefresh(Duration.ZERO);
+    return secrets;
+  }
+
+  private synchronized void scheduleRefresh(Duration delay) {
+    if (!closed) {
+      refreshExecutor.schedule(this::refresh, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * @return age, latency and outcome counts of the refreshes of the secrets
+   */
+  public RefreshStatistics getRefreshStatistics() {
+    var current = secrets;
+    return new RefreshStatistics(
+        current != null ? Duration.ofNanos(nanoTime.getAsLong() - current.loadedAt()) : null,
+        lastRefreshLatency,
+        refreshes.get(),
+        failures.get());
+  }
+
+  /** Stops refreshing the secrets and releases the client. */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    refreshExecutor.shutdownNow();
+    if (client != null) {
+      client.close();
+      client = null;
     }
   }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.cloud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.error.ConnectorException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+
+class GcpSecretManagerSecretProviderTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private final CountDownLatch failedRefresh = new CountDownLatch(1);
+
+  private GcpSecretManagerSecretProvider provider(
+      Duration refreshInterval, IntFunction<String> loader) {
+    return new GcpSecretManagerSecretProvider(
+        new ObjectMapper(),
+        "cluster",
+        "project",
+        "prefix",
+        refreshInterval,
+        new GcpSecretManagerSecretProvider.Listener() {
+          @Override
+          public void onRefreshFailed(Duration latency) {
+            failedRefresh.countDown();
+          }
+        }) {
+      @Override
+      protected String loadGoogleSecrets(String clusterId) {
+        return loader.apply(loads.incrementAndGet());
+      }
+    };
+  }
+
+  @Test
+  void shouldServeLoadedSecretsUntilRefresh() {
+    // given
+    try (var provider = provider(Duration.ofHours(1), load -> "{\"a\": \"value-a\"}")) {
+
+      // when
+      var secret = provider.getSecret("a");
+      var secrets = provider.getSecrets(Set.of("a", "b"));
+
+      // then
+      assertThat(secret).isEqualTo("value-a");
+      assertThat(secrets).isEqualTo(Map.of("a", "value-a"));
+      assertThat(loads).hasValue(1);
+      assertThat(provider.getRefreshStatistics().refreshes()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @SuppressWarnings("removal")
+  void shouldServeRefreshedSecretsThroughDeprecatedCache() throws Exception {
+    // given
+    try (var provider = provider(Duration.ofHours(1), load -> "{\"a\": \"value-a\"}")) {
+      provider.setupSecretsCache();
+
+      // when
+      var secrets = provider.secretsCache.get("SECRETS");
+      provider.getSecret("a");
+
+      // then
+      assertThat(secrets).isEqualTo(Map.of("a", "value-a"));
+      assertThat(loads).hasValue(1);
+    }
+  }
+
+  @Test
+  void shouldKeepServingSecretsWhileRefreshFails() throws InterruptedException {
+    // given
+    try (var provider =
+        provider(
+            Duration.ofMillis(10),
+            load -> {
+              if (load == 1) {
+                return "{\"a\": \"value-a\"}";
+              }
+              throw new IllegalStateException("unavailable");
+            })) {
+      provider.getSecret("a");
+
+      // when
+      assertThat(failedRefresh.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // then
+      assertThat(provider.getSecret("a")).isEqualTo("value-a");
+      assertThat(provider.getRefreshStatistics().failures()).isPositive();
+    }
+  }
+
+  @Test
+  void shouldPauseRefreshWhileSecretsAreNotUsed() throws InterruptedException {
+    // given
+    var refreshed = new CountDownLatch(3);
+    try (var provider =
+        provider(
+            Duration.ofMillis(100),
+            load -> {
+              refreshed.countDown();
+              return "{\"a\": \"value-" + load + "\"}";
+            })) {
+      provider.getSecret("a");
+      Thread.sleep(250);
+      var loadsWhileUnused = loads.get();
+
+      // when
+      var recent = provider.getSecret("a");
+
+      // then the first refresh still happens, the following ones wait for the next lookup
+      assertThat(loadsWhileUnused).isEqualTo(2);
+      assertThat(recent).isEqualTo("value-2");
+      assertThat(refreshed.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Test
+  void shouldReloadSecretsOlderThanStaleAgeBeforeLookup() throws InterruptedException {
+    // given
+    try (var provider =
+        provider(Duration.ofMillis(10), load -> "{\"a\": \"value-" + load + "\"}")) {
+      provider.getSecret("a");
+      Thread.sleep(500);
+      var loadsWhileUnused = loads.get();
+
+      // when
+      var secret = provider.getSecret("a");
+
+      // then
+      assertThat(loadsWhileUnused).isEqualTo(2);
+      assertThat(secret).isEqualTo("value-3");
+    }
+  }
+
+  @Test
+  void shouldServeStaleSecretsWhenReloadFails() throws InterruptedException {
+    // given
+    try (var provider =
+        provider(
+            Duration.ofMillis(10),
+            load -> {
+              if (load <= 2) {
+                return "{\"a\": \"value-" + load + "\"}";
+              }
+              throw new IllegalStateException("unavailable");
+            })) {
+      provider.getSecret("a");
+      Thread.sleep(500);
+
+      // when
+      var secret = provider.getSecret("a");
+
+      // then
+      assertThat(secret).isEqualTo("value-2");
+      assertThat(provider.getRefreshStatistics().failures()).isPositive();
+    }
+  }
+
+  @Test
+  void shouldFailFirstLookupWhenSecretsCannotBeLoaded() {
+    try (var provider =
+        provider(
+            Duration.ofHours(1),
+            load -> {
+              throw new IllegalStateException("unavailable");
+            })) {
+      assertThatThrownBy(() -> provider.getSecret("a")).isInstanceOf(ConnectorException.class);
+      assertThat(provider.getRefreshStatistics().age()).isNull();
+    }
+  }
+
+  @Test
+  void shouldBackOffExponentiallyWithJitter() {
+    var interval = Duration.ofSeconds(5);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(GcpSecretManagerSecretProvider.nextRefreshDelay(interval, 0))
+          .isBetween(Duration.ofMillis(4500), Duration.ofMillis(5500));
+      assertThat(GcpSecretManagerSecretProvider.nextRefreshDelay(interval, 2))
+          .isBetween(Duration.ofSeconds(18), Duration.ofSeconds(22));
+      assertThat(GcpSecretManagerSecretProvider.nextRefreshDelay(interval, 30))
+          .isBetween(Duration.ofSeconds(54), Duration.ofSeconds(66));
+    }
+  }
+}